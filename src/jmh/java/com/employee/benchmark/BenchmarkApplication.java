@@ -0,0 +1,76 @@
+package com.employee.benchmark;
+
+import com.employee.App;
+import com.employee.model.ContractEmployee;
+import com.employee.model.Employee;
+import com.employee.model.FullTimeEmployee;
+import com.employee.model.Money;
+import com.employee.model.PartTimeEmployee;
+import com.employee.repository.EmployeeRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class BenchmarkApplication {
+
+    static final String[] DEPARTMENTS = {
+            "Engineering", "Finance", "Sales", "Marketing", "Support",
+            "Operations", "Legal", "HR", "Research", "Logistics"
+    };
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(App.class)
+                .profiles("benchmark")
+                .properties(properties)
+                .run();
+    }
+
+    static List<Long> seedEmployees(ConfigurableApplicationContext context, int count) {
+        EmployeeRepository employeeRepository = context.getBean(EmployeeRepository.class);
+        TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(newEmployee(i));
+        }
+
+        List<Long> ids = new ArrayList<>(count);
+        transactionTemplate.executeWithoutResult(status ->
+                employeeRepository.saveAll(employees).forEach(saved -> ids.add(saved.getEmployeeId())));
+        return ids;
+    }
+
+    static Employee newEmployee(int i) {
+        Employee employee;
+        switch (i % 3) {
+            case 0 -> {
+                FullTimeEmployee fullTime = new FullTimeEmployee();
+                fullTime.setAnnualLeave(20);
+                employee = fullTime;
+            }
+            case 1 -> {
+                PartTimeEmployee partTime = new PartTimeEmployee();
+                partTime.setHourlyRate(Money.ofMajor(20 + i % 30));
+                partTime.setHoursWorked(80 + i % 60);
+                employee = partTime;
+            }
+            default -> {
+                ContractEmployee contract = new ContractEmployee();
+                contract.setContractAmount(Money.ofMajor(60_000 + i % 1_000 * 10));
+                contract.setContractDuration(12);
+                employee = contract;
+            }
+        }
+        employee.setName("Employee " + i);
+        employee.setDepartment(DEPARTMENTS[i % DEPARTMENTS.length]);
+        employee.setSalary(Money.ofMajor(40_000 + i % 5_000 * 10));
+        employee.setRoleType("STAFF");
+        return employee;
+    }
+}
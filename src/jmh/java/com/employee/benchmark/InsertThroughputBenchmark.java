@@ -0,0 +1,104 @@
+package com.employee.benchmark;
+
+import com.employee.dto.PayrollRunSummary;
+import com.employee.model.Attendance;
+import com.employee.repository.AttendanceRepository;
+import com.employee.repository.EmployeeRepository;
+import com.employee.repository.PayrollRepository;
+import com.employee.service.PayrollService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows per second for bulk attendance and payroll writes. {@code jdbcBatchSize = 1} reproduces the
+ * one-round-trip-per-row behaviour of the old IDENTITY ids; larger values show Hibernate insert batching.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InsertThroughputBenchmark {
+
+    private static final int ROWS = 1_000;
+
+    @Param({"1", "50"})
+    private int jdbcBatchSize;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeRepository employeeRepository;
+    private AttendanceRepository attendanceRepository;
+    private PayrollRepository payrollRepository;
+    private PayrollService payrollService;
+    private TransactionTemplate transactionTemplate;
+    private List<Long> employeeIds;
+    private int day;
+    private int year;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(
+                "spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize,
+                "payroll.run.chunk-size=" + ROWS);
+        employeeRepository = context.getBean(EmployeeRepository.class);
+        attendanceRepository = context.getBean(AttendanceRepository.class);
+        payrollRepository = context.getBean(PayrollRepository.class);
+        payrollService = context.getBean(PayrollService.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        employeeIds = BenchmarkApplication.seedEmployees(context, ROWS);
+    }
+
+    @Setup(Level.Iteration)
+    public void clearTables() {
+        attendanceRepository.deleteAllInBatch();
+        payrollRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int bulkAttendanceInsert() {
+        LocalDate date = LocalDate.of(2024, 1, 1).plusDays(day++);
+        return transactionTemplate.execute(status -> {
+            List<Attendance> rows = new ArrayList<>(ROWS);
+            for (Long employeeId : employeeIds) {
+                Attendance attendance = new Attendance();
+                attendance.setEmployee(employeeRepository.getReferenceById(employeeId));
+                attendance.setAttendanceDate(date);
+                attendance.setStatus("PRESENT");
+                rows.add(attendance);
+            }
+            return attendanceRepository.saveAll(rows).size();
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public PayrollRunSummary bulkPayrollRun() {
+        return payrollService.runPayroll("January", 2000 + year++);
+    }
+}
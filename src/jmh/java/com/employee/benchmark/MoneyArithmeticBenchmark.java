@@ -0,0 +1,87 @@
+package com.employee.benchmark;
+
+import com.employee.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk payroll arithmetic (uplift, allowances, deductions) over boxed {@code Double}, as the payroll
+ * path did before, against {@link Money} and against raw minor units.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoneyArithmeticBenchmark {
+
+    private static final int EMPLOYEES = 10_000;
+    private static final Double ALLOWANCES = 2000.0;
+    private static final Double DEDUCTIONS = 500.0;
+    private static final Money ALLOWANCES_MONEY = Money.ofMajor(2000);
+    private static final Money DEDUCTIONS_MONEY = Money.ofMajor(500);
+
+    private Double[] boxedSalaries;
+    private Money[] moneySalaries;
+    private long[] minorSalaries;
+
+    @Setup
+    public void setUp() {
+        boxedSalaries = new Double[EMPLOYEES];
+        moneySalaries = new Money[EMPLOYEES];
+        minorSalaries = new long[EMPLOYEES];
+        for (int i = 0; i < EMPLOYEES; i++) {
+            long cents = 4_000_000L + i * 137L;
+            boxedSalaries[i] = cents / 100.0;
+            moneySalaries[i] = Money.ofMinor(cents);
+            minorSalaries[i] = cents;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EMPLOYEES)
+    public Double boxedDouble() {
+        Double total = 0.0;
+        for (Double salary : boxedSalaries) {
+            Double basic = salary + (salary * 0.15);
+            Double net = basic + ALLOWANCES - DEDUCTIONS;
+            total = total + net;
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EMPLOYEES)
+    public Money money() {
+        Money total = Money.zero();
+        for (Money salary : moneySalaries) {
+            Money net = salary.multiply(115, 100).plus(ALLOWANCES_MONEY).minus(DEDUCTIONS_MONEY);
+            total = total.plus(net);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EMPLOYEES)
+    public long minorUnits() {
+        long allowances = ALLOWANCES_MONEY.getMinorUnits();
+        long deductions = DEDUCTIONS_MONEY.getMinorUnits();
+        long total = 0;
+        for (long salary : minorSalaries) {
+            total += (salary * 115 + 50) / 100 + allowances - deductions;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,82 @@
+package com.employee.benchmark;
+
+import com.employee.model.Money;
+import com.employee.model.Payroll;
+import com.employee.repository.PayrollRepository;
+import com.employee.service.PayrollService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PayrollServiceBenchmark {
+
+    private static final String[] MONTHS = {
+            "January", "February", "March", "April", "May", "June",
+            "July", "August", "September", "October", "November", "December"
+    };
+
+    @Param("1000")
+    private int employees;
+
+    private ConfigurableApplicationContext context;
+    private PayrollService payrollService;
+    private PayrollRepository payrollRepository;
+    private List<Long> employeeIds;
+    private long invocation;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        payrollService = context.getBean(PayrollService.class);
+        payrollRepository = context.getBean(PayrollRepository.class);
+        employeeIds = BenchmarkApplication.seedEmployees(context, employees);
+    }
+
+    @Setup(Level.Iteration)
+    public void clearPayroll() {
+        payrollRepository.deleteAllInBatch();
+        invocation = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Money calculateSalary() {
+        return payrollService.calculateSalary(nextEmployeeId());
+    }
+
+    @Benchmark
+    public Payroll generatePayrollReport() {
+        long i = invocation++;
+        Long employeeId = employeeIds.get((int) (i % employeeIds.size()));
+        long period = i / employeeIds.size();
+        return payrollService.generatePayrollReport(employeeId, MONTHS[(int) (period % 12)], 2000 + (int) (period / 12));
+    }
+
+    private Long nextEmployeeId() {
+        return employeeIds.get((int) (invocation++ % employeeIds.size()));
+    }
+}
@@ -0,0 +1,124 @@
+package com.employee.benchmark;
+
+import com.employee.dto.AttendanceReportRow;
+import com.employee.dto.PayrollReportRow;
+import com.employee.model.Attendance;
+import com.employee.model.Employee;
+import com.employee.repository.AttendanceRepository;
+import com.employee.repository.EmployeeRepository;
+import com.employee.repository.PayrollRepository;
+import com.employee.service.PayrollService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositoryBenchmark {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+    private static final int DAYS = 60;
+
+    @Param("1000")
+    private int employees;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeRepository employeeRepository;
+    private AttendanceRepository attendanceRepository;
+    private PayrollRepository payrollRepository;
+    private List<Long> employeeIds;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        employeeRepository = context.getBean(EmployeeRepository.class);
+        attendanceRepository = context.getBean(AttendanceRepository.class);
+        payrollRepository = context.getBean(PayrollRepository.class);
+        employeeIds = BenchmarkApplication.seedEmployees(context, employees);
+        seedAttendance(context.getBean(TransactionTemplate.class));
+        context.getBean(PayrollService.class).runPayroll("January", 2024);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Employee> findEmployeeById() {
+        return employeeRepository.findById(nextEmployeeId());
+    }
+
+    @Benchmark
+    public List<Employee> findEmployeesByDepartment() {
+        return employeeRepository.findByDepartment(BenchmarkApplication.DEPARTMENTS[cursor++ % 10]);
+    }
+
+    @Benchmark
+    public List<Employee> keysetEmployeePage() {
+        return employeeRepository.findByEmployeeIdGreaterThanOrderByEmployeeIdAsc(
+                nextEmployeeId(), PageRequest.of(0, 50));
+    }
+
+    @Benchmark
+    public List<Attendance> attendanceDateRange() {
+        return attendanceRepository.findByEmployeeEmployeeIdAndAttendanceDateBetweenOrderByAttendanceDateAscAttendanceIdAsc(
+                nextEmployeeId(), FIRST_DAY.plusDays(10), FIRST_DAY.plusDays(40));
+    }
+
+    @Benchmark
+    public List<AttendanceReportRow> attendanceReportForDay() {
+        return attendanceRepository.findReportRowsByAttendanceDate(FIRST_DAY.plusDays(cursor++ % DAYS));
+    }
+
+    @Benchmark
+    public List<PayrollReportRow> payrollReportForMonth() {
+        return payrollRepository.findReportRowsByPeriodBetween(202401, 202401);
+    }
+
+    private Long nextEmployeeId() {
+        return employeeIds.get(cursor++ % employeeIds.size());
+    }
+
+    private void seedAttendance(TransactionTemplate transactionTemplate) {
+        for (int day = 0; day < DAYS; day++) {
+            LocalDate date = FIRST_DAY.plusDays(day);
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Attendance> rows = new ArrayList<>(employeeIds.size());
+                for (Long employeeId : employeeIds) {
+                    Attendance attendance = new Attendance();
+                    attendance.setEmployee(employeeRepository.getReferenceById(employeeId));
+                    attendance.setAttendanceDate(date);
+                    attendance.setStatus("PRESENT");
+                    attendance.setHoursWorked(8.0);
+                    rows.add(attendance);
+                }
+                attendanceRepository.saveAll(rows);
+            });
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.employee.benchmark;
+
+import com.employee.dto.RosterFilter;
+import com.employee.dto.RosterStats;
+import com.employee.model.Money;
+import com.employee.service.RosterSnapshotService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RosterSnapshotBenchmark {
+
+    private static final BigDecimal MIN_SALARY = new BigDecimal("65000");
+
+    @Param("10000")
+    private int employees;
+
+    private ConfigurableApplicationContext context;
+    private RosterSnapshotService rosterSnapshotService;
+    private EntityManager entityManager;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        BenchmarkApplication.seedEmployees(context, employees);
+        rosterSnapshotService = context.getBean(RosterSnapshotService.class);
+        rosterSnapshotService.rebuild();
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long snapshotCount() {
+        return rosterSnapshotService.count(new RosterFilter(nextDepartment(), "CONTRACT", MIN_SALARY, null));
+    }
+
+    @Benchmark
+    public RosterStats snapshotStats() {
+        return rosterSnapshotService.stats(new RosterFilter(nextDepartment(), "CONTRACT", MIN_SALARY, null));
+    }
+
+    @Benchmark
+    public long jpaCount() {
+        return entityManager.createQuery("select count(e) from Employee e where type(e) = ContractEmployee"
+                        + " and e.department = :department and e.salary >= :minSalary", Long.class)
+                .setParameter("department", nextDepartment())
+                .setParameter("minSalary", Money.of(MIN_SALARY))
+                .getSingleResult();
+    }
+
+    private String nextDepartment() {
+        return BenchmarkApplication.DEPARTMENTS[cursor++ % BenchmarkApplication.DEPARTMENTS.length];
+    }
+}
@@ -0,0 +1,64 @@
+package com.employee.benchmark;
+
+import com.employee.model.Employee;
+import com.employee.model.FullTimeEmployee;
+import com.employee.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SalaryCalculationBenchmark {
+
+    private static final int EMPLOYEES = 10_000;
+
+    private Employee[] fullTimeOnly;
+    private Employee[] mixedTypes;
+
+    @Setup
+    public void setUp() {
+        fullTimeOnly = new Employee[EMPLOYEES];
+        mixedTypes = new Employee[EMPLOYEES];
+        for (int i = 0; i < EMPLOYEES; i++) {
+            FullTimeEmployee fullTime = new FullTimeEmployee();
+            fullTime.setSalary(Money.ofMajor(40_000 + i));
+            fullTimeOnly[i] = fullTime;
+            mixedTypes[i] = BenchmarkApplication.newEmployee(i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EMPLOYEES)
+    public long monomorphicFullTime() {
+        return sum(fullTimeOnly);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EMPLOYEES)
+    public long megamorphicMixedTypes() {
+        return sum(mixedTypes);
+    }
+
+    private static long sum(Employee[] employees) {
+        long total = 0;
+        for (Employee employee : employees) {
+            total += employee.calculateBasePay().getMinorUnits();
+        }
+        return total;
+    }
+}
@@ -8,7 +8,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Scanner;
 
@@ -21,9 +23,11 @@ public class App {
     }
 
     @Bean
-    public CommandLineRunner run(LoginService loginService, MainMenu mainMenu, UserRepository userRepository) {
+    @ConditionalOnProperty(name = "app.console.enabled", havingValue = "true", matchIfMissing = true)
+    public CommandLineRunner run(LoginService loginService, MainMenu mainMenu, UserRepository userRepository,
+                                 PasswordEncoder passwordEncoder) {
         return args -> {
-            createDefaultUser(userRepository);
+            createDefaultUser(userRepository, passwordEncoder);
 
             try (Scanner scanner = new Scanner(System.in)) {
                 System.out.println("\n=== Employee Management & Payroll System ===");
@@ -42,11 +46,11 @@ public class App {
         };
     }
 
-    private void createDefaultUser(UserRepository userRepository) {
+    private void createDefaultUser(UserRepository userRepository, PasswordEncoder passwordEncoder) {
         if (!userRepository.existsByUsername("admin")) {
             User admin = new User();
             admin.setUsername("admin");
-            admin.setPassword("admin123");
+            admin.setPassword(passwordEncoder.encode("admin123"));
             admin.setRole("ADMIN");
             userRepository.save(admin);
             System.out.println("✓ Default admin user created (username: admin, password: admin123)");
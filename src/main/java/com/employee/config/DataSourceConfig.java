@@ -0,0 +1,79 @@
+package com.employee.config;
+
+import com.employee.diagnostics.ConnectionHoldTracker;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+@Configuration
+public class DataSourceConfig {
+
+    public static final String OLTP_DATA_SOURCE = "oltpDataSource";
+    public static final String BATCH_DATA_SOURCE = "batchDataSource";
+    public static final String BATCH_JDBC_TEMPLATE = "batchJdbcTemplate";
+
+    @Bean(OLTP_DATA_SOURCE)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource oltpDataSource(DataSourceProperties properties, ConnectionHoldTracker connectionHoldTracker,
+                                           MeterRegistry meterRegistry) {
+        return hikariDataSource(properties, connectionHoldTracker, meterRegistry);
+    }
+
+    @Bean(BATCH_DATA_SOURCE)
+    @ConfigurationProperties("batch.datasource.hikari")
+    public HikariDataSource batchDataSource(DataSourceProperties properties,
+                                            ConnectionHoldTracker connectionHoldTracker,
+                                            MeterRegistry meterRegistry) {
+        return hikariDataSource(properties, connectionHoldTracker, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public RoutingDataSource dataSource(@Qualifier(OLTP_DATA_SOURCE) DataSource oltpDataSource,
+                                        @Qualifier(BATCH_DATA_SOURCE) DataSource batchDataSource) {
+        RoutingDataSource dataSource = new RoutingDataSource();
+        dataSource.setTargetDataSources(Map.of(OLTP_DATA_SOURCE, oltpDataSource, BATCH_DATA_SOURCE, batchDataSource));
+        dataSource.setDefaultTargetDataSource(oltpDataSource);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public JdbcTemplate jdbcTemplate(DataSource dataSource, JdbcProperties properties) {
+        return jdbcTemplate(dataSource, properties.getTemplate());
+    }
+
+    @Bean(BATCH_JDBC_TEMPLATE)
+    public JdbcTemplate batchJdbcTemplate(@Qualifier(BATCH_DATA_SOURCE) DataSource dataSource,
+                                          JdbcProperties properties) {
+        return jdbcTemplate(dataSource, properties.getTemplate());
+    }
+
+    private static HikariDataSource hikariDataSource(DataSourceProperties properties,
+                                                     ConnectionHoldTracker connectionHoldTracker,
+                                                     MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setMetricsTrackerFactory(connectionHoldTracker.metricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+
+    private static JdbcTemplate jdbcTemplate(DataSource dataSource, JdbcProperties.Template template) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(template.getFetchSize());
+        jdbcTemplate.setMaxRows(template.getMaxRows());
+        if (template.getQueryTimeout() != null) {
+            jdbcTemplate.setQueryTimeout((int) template.getQueryTimeout().getSeconds());
+        }
+        return jdbcTemplate;
+    }
+}
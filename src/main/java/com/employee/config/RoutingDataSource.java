@@ -0,0 +1,27 @@
+package com.employee.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.function.Supplier;
+
+public class RoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Boolean> BATCH = new ThreadLocal<>();
+
+    public static <T> T onBatchPool(Supplier<T> work) {
+        if (Boolean.TRUE.equals(BATCH.get())) {
+            return work.get();
+        }
+        BATCH.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            BATCH.remove();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return Boolean.TRUE.equals(BATCH.get()) ? DataSourceConfig.BATCH_DATA_SOURCE : DataSourceConfig.OLTP_DATA_SOURCE;
+    }
+}
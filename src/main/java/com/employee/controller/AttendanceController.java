@@ -0,0 +1,94 @@
+package com.employee.controller;
+
+import com.employee.dto.AttendanceReportRow;
+import com.employee.dto.AttendanceRequest;
+import com.employee.model.Attendance;
+import com.employee.model.AttendanceMonthlySummary;
+import com.employee.service.AttendanceIngestionService;
+import com.employee.service.AttendanceService;
+import com.employee.service.AttendanceSummaryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+@RestController
+@RequestMapping("/api/attendance")
+@RequiredArgsConstructor
+public class AttendanceController {
+
+    private final AttendanceService attendanceService;
+    private final AttendanceIngestionService attendanceIngestionService;
+    private final AttendanceSummaryService attendanceSummaryService;
+
+    @PostMapping
+    public Callable<ResponseEntity<Attendance>> trackAttendance(@RequestBody AttendanceRequest request) {
+        return () -> new ResponseEntity<>(
+                attendanceService.trackAttendance(request.getEmployeeId(), dateOrToday(request), request.getStatus()),
+                HttpStatus.CREATED);
+    }
+
+    @PostMapping("/clock-ins")
+    public Callable<ResponseEntity<Void>> submitClockIn(@RequestBody AttendanceRequest request) {
+        return () -> {
+            attendanceIngestionService.submitClockIn(request.getEmployeeId(), dateOrToday(request), request.getStatus());
+            return ResponseEntity.accepted().build();
+        };
+    }
+
+    @PutMapping("/{attendanceId}/check-out")
+    public Callable<Attendance> markCheckOut(@PathVariable Long attendanceId) {
+        return () -> attendanceService.markCheckOut(attendanceId);
+    }
+
+    @GetMapping("/employee/{employeeId}")
+    public Callable<List<Attendance>> getEmployeeAttendanceLogs(
+            @PathVariable Long employeeId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return () -> attendanceService.getEmployeeAttendanceLogs(employeeId, from, to);
+    }
+
+    @GetMapping("/employee/{employeeId}/page")
+    public Callable<List<Attendance>> getEmployeeAttendancePage(
+            @PathVariable Long employeeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate beforeDate,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "50") int size) {
+        return () -> attendanceService.getEmployeeAttendancePage(employeeId, beforeDate, beforeId, size);
+    }
+
+    @GetMapping("/date/{date}")
+    public Callable<List<AttendanceReportRow>> getAttendanceByDate(
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return () -> attendanceService.getAttendanceByDate(date);
+    }
+
+    @GetMapping("/summary")
+    public Callable<List<AttendanceMonthlySummary>> getMonthlySummary(@RequestParam String month,
+                                                                      @RequestParam Integer year) {
+        return () -> attendanceSummaryService.getMonthlySummary(month, year);
+    }
+
+    @GetMapping("/employee/{employeeId}/summary")
+    public Callable<List<AttendanceMonthlySummary>> getEmployeeYearSummary(@PathVariable Long employeeId,
+                                                                           @RequestParam Integer year) {
+        return () -> attendanceSummaryService.getEmployeeYearSummary(employeeId, year);
+    }
+
+    private LocalDate dateOrToday(AttendanceRequest request) {
+        return request.getDate() != null ? request.getDate() : LocalDate.now();
+    }
+}
@@ -0,0 +1,32 @@
+package com.employee.controller;
+
+import com.employee.model.AuditEvent;
+import com.employee.service.AuditLogService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+@RestController
+@RequestMapping("/api/audit")
+@RequiredArgsConstructor
+public class AuditController {
+
+    private final AuditLogService auditLogService;
+
+    @GetMapping
+    public Callable<List<AuditEvent>> readAfter(@RequestParam(required = false) Long afterId,
+                                                @RequestParam(defaultValue = "100") int size) {
+        return () -> auditLogService.readAfter(afterId, size);
+    }
+
+    @GetMapping("/{entityType}/{entityId}")
+    public Callable<List<AuditEvent>> getHistory(@PathVariable String entityType, @PathVariable Long entityId) {
+        return () -> auditLogService.getHistory(entityType.toUpperCase(), entityId);
+    }
+}
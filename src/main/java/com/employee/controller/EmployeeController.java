@@ -0,0 +1,88 @@
+package com.employee.controller;
+
+import com.employee.dto.EmployeeImportSummary;
+import com.employee.dto.EmployeeRequest;
+import com.employee.model.Employee;
+import com.employee.service.EmployeeImportService;
+import com.employee.service.EmployeeImportService.ImportFormat;
+import com.employee.service.EmployeeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+@RestController
+@RequestMapping("/api/employees")
+@RequiredArgsConstructor
+public class EmployeeController {
+
+    private final EmployeeService employeeService;
+    private final EmployeeImportService employeeImportService;
+
+    @Value("${employees.import.request-timeout-ms:600000}")
+    private long importTimeoutMillis;
+
+    @PostMapping
+    public Callable<ResponseEntity<Employee>> addEmployee(@RequestBody EmployeeRequest request) {
+        return () -> new ResponseEntity<>(employeeService.addEmployee(request.toEmployee()), HttpStatus.CREATED);
+    }
+
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson", "application/jsonl"})
+    public WebAsyncTask<EmployeeImportSummary> importEmployees(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) {
+        ImportFormat format = contentType.startsWith("text/csv") ? ImportFormat.CSV : ImportFormat.NDJSON;
+        return new WebAsyncTask<>(importTimeoutMillis, () -> employeeImportService.importEmployees(body, format));
+    }
+
+    @GetMapping("/{employeeId}")
+    public Callable<Employee> viewEmployee(@PathVariable Long employeeId) {
+        return () -> employeeService.viewEmployeeDetails(employeeId);
+    }
+
+    @GetMapping
+    public Callable<Page<Employee>> viewEmployees(Pageable pageable) {
+        return () -> employeeService.viewEmployees(pageable);
+    }
+
+    @GetMapping("/seek")
+    public Callable<List<Employee>> viewEmployeesAfter(@RequestParam(defaultValue = "0") Long after,
+                                                       @RequestParam(defaultValue = "50") int size) {
+        return () -> employeeService.viewEmployeesAfter(after, size);
+    }
+
+    @GetMapping("/department/{department}")
+    public Callable<List<Employee>> findByDepartment(@PathVariable String department) {
+        return () -> employeeService.findByDepartment(department);
+    }
+
+    @PutMapping("/{employeeId}")
+    public Callable<Employee> updateEmployee(@PathVariable Long employeeId, @RequestBody EmployeeRequest request) {
+        return () -> employeeService.updateEmployee(employeeId, request.toEmployee());
+    }
+
+    @DeleteMapping("/{employeeId}")
+    public Callable<ResponseEntity<Void>> deleteEmployee(@PathVariable Long employeeId) {
+        return () -> {
+            employeeService.deleteEmployee(employeeId);
+            return ResponseEntity.noContent().build();
+        };
+    }
+}
@@ -1,14 +1,26 @@
 package com.employee.controller;
 
+import com.employee.dto.EmployeeImportSummary;
+import com.employee.dto.PayrollExportSummary;
+import com.employee.dto.PayrollRunSummary;
 import com.employee.model.Employee;
+import com.employee.model.Money;
+import com.employee.model.PayPeriod;
 import com.employee.service.AttendanceService;
+import com.employee.service.AttendanceSummaryService;
+import com.employee.service.EmployeeImportService;
 import com.employee.service.EmployeeService;
+import com.employee.service.PayrollExportService;
 import com.employee.service.PayrollService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.Scanner;
 
@@ -17,10 +29,15 @@ import java.util.Scanner;
 public class MainMenu {
 
     private static final Logger logger = LoggerFactory.getLogger(MainMenu.class);
+    private static final int EMPLOYEE_PAGE_SIZE = 100;
+    private static final int ATTENDANCE_PAGE_SIZE = 31;
 
     private final EmployeeService employeeService;
+    private final EmployeeImportService employeeImportService;
     private final PayrollService payrollService;
+    private final PayrollExportService payrollExportService;
     private final AttendanceService attendanceService;
+    private final AttendanceSummaryService attendanceSummaryService;
     private Scanner scanner;
 
     public void displayMenu() {
@@ -65,6 +82,7 @@ public class MainMenu {
         System.out.println("3. Update Employee");
         System.out.println("4. Delete Employee");
         System.out.println("5. View All Employees");
+        System.out.println("6. Import Employees from File");
         System.out.print("Choose an option: ");
 
         int choice = scanner.nextInt();
@@ -76,6 +94,7 @@ public class MainMenu {
             case 3 -> updateEmployee();
             case 4 -> deleteEmployee();
             case 5 -> viewAllEmployees();
+            case 6 -> importEmployees();
             default -> logger.warn("Invalid option");
         }
     }
@@ -86,7 +105,7 @@ public class MainMenu {
         System.out.print("Enter department: ");
         String department = scanner.nextLine();
         System.out.print("Enter salary: ");
-        Double salary = scanner.nextDouble();
+        Money salary = Money.of(scanner.nextBigDecimal());
         scanner.nextLine();
 
         Employee employee = new Employee();
@@ -104,8 +123,7 @@ public class MainMenu {
         scanner.nextLine();
 
         try {
-            Employee employee = employeeService.viewEmployeeDetails(id);
-            logger.info(employee.getEmployeeDetails());
+            logEmployeeDetails(employeeService.viewEmployeeDetails(id));
         } catch (Exception e) {
             logger.error("Error: {}", e.getMessage());
         }
@@ -121,7 +139,7 @@ public class MainMenu {
         System.out.print("Enter new department: ");
         String department = scanner.nextLine();
         System.out.print("Enter new salary: ");
-        Double salary = scanner.nextDouble();
+        Money salary = Money.of(scanner.nextBigDecimal());
         scanner.nextLine();
 
         Employee updated = new Employee();
@@ -151,13 +169,38 @@ public class MainMenu {
     }
 
     private void viewAllEmployees() {
-        employeeService.viewAllEmployees().forEach(emp -> logger.info(emp.getEmployeeDetails()));
+        employeeService.forEachEmployeePage(EMPLOYEE_PAGE_SIZE,
+                page -> page.forEach(this::logEmployeeDetails));
+    }
+
+    private void logEmployeeDetails(Employee employee) {
+        if (logger.isInfoEnabled()) {
+            logger.info(employee.getEmployeeDetails());
+        }
+    }
+
+    private void importEmployees() {
+        System.out.print("Enter path to .csv or .ndjson file: ");
+        Path path = Path.of(scanner.nextLine().trim());
+
+        try (InputStream input = Files.newInputStream(path)) {
+            EmployeeImportSummary summary = employeeImportService.importEmployees(input,
+                    EmployeeImportService.ImportFormat.fromFileName(path.getFileName().toString()));
+            logger.info("Import completed: {} inserted, {} updated, {} failed ({} rows/sec)",
+                    summary.getInserted(), summary.getUpdated(), summary.getFailed(),
+                    Math.round(summary.getRowsPerSecond()));
+            summary.getErrors().forEach(error ->
+                    logger.warn("Line {}: {}", error.getLine(), error.getMessage()));
+        } catch (IOException | RuntimeException e) {
+            logger.error("Error: {}", e.getMessage());
+        }
     }
 
     private void attendanceOperations() {
         System.out.println("\n=== Attendance Operations ===");
         System.out.println("1. Mark Attendance");
         System.out.println("2. View Attendance Report");
+        System.out.println("3. View Yearly Attendance Summary");
         System.out.print("Choose an option: ");
 
         int choice = scanner.nextInt();
@@ -177,8 +220,19 @@ public class MainMenu {
             Long empId = scanner.nextLong();
             scanner.nextLine();
 
-            attendanceService.getEmployeeAttendanceLogs(empId).forEach(
+            attendanceService.getEmployeeAttendancePage(empId, null, null, ATTENDANCE_PAGE_SIZE).forEach(
                     att -> logger.info("Date: {}, Status: {}", att.getAttendanceDate(), att.getStatus()));
+        } else if (choice == 3) {
+            System.out.print("Enter employee ID: ");
+            Long empId = scanner.nextLong();
+            System.out.print("Enter year: ");
+            Integer year = scanner.nextInt();
+            scanner.nextLine();
+
+            attendanceSummaryService.getEmployeeYearSummary(empId, year).forEach(
+                    summary -> logger.info("Period: {}, Present: {}, Absent: {}, Hours: {}",
+                            PayPeriod.fromKey(summary.getPeriod()), summary.getPresentDays(),
+                            summary.getAbsentDays(), summary.getTotalHours()));
         }
     }
 
@@ -186,6 +240,8 @@ public class MainMenu {
         System.out.println("\n=== Payroll Operations ===");
         System.out.println("1. Generate Payroll");
         System.out.println("2. View Payroll History");
+        System.out.println("3. Run Monthly Payroll");
+        System.out.println("4. Export Payroll File");
         System.out.print("Choose an option: ");
 
         int choice = scanner.nextInt();
@@ -210,6 +266,37 @@ public class MainMenu {
 
             payrollService.getEmployeePayrollHistory(empId).forEach(
                     pay -> logger.info("Month: {}, Net Salary: {}", pay.getMonth(), pay.getNetSalary()));
+        } else if (choice == 3) {
+            System.out.print("Enter month: ");
+            String month = scanner.nextLine();
+            System.out.print("Enter year: ");
+            Integer year = scanner.nextInt();
+            scanner.nextLine();
+
+            PayrollRunSummary summary = payrollService.runPayroll(month, year);
+            if (logger.isInfoEnabled()) {
+                logger.info("Payroll run completed: {} created, {} skipped, {} failed ({} employees/sec)",
+                        summary.getPayrollsCreated(), summary.getPayrollsSkipped(), summary.getFailures(),
+                        String.format("%.1f", summary.getEmployeesPerSecond()));
+            }
+        } else if (choice == 4) {
+            System.out.print("Enter month: ");
+            String month = scanner.nextLine();
+            System.out.print("Enter year: ");
+            Integer year = scanner.nextInt();
+            scanner.nextLine();
+            System.out.print("Enter format (CSV/BANK): ");
+            String format = scanner.nextLine();
+            System.out.print("Compress with gzip (y/n): ");
+            boolean gzip = scanner.nextLine().trim().equalsIgnoreCase("y");
+
+            PayrollExportSummary summary = payrollExportService.exportPeriod(month, year,
+                    PayrollExportService.ExportFormat.of(format), gzip);
+            if (logger.isInfoEnabled()) {
+                logger.info("Payroll export written to {}: {} rows, {} bytes ({} rows/sec, {} KB/sec)",
+                        summary.getFile(), summary.getRowsWritten(), summary.getBytesWritten(),
+                        Math.round(summary.getRowsPerSecond()), Math.round(summary.getBytesPerSecond() / 1024));
+            }
         }
     }
 }
@@ -0,0 +1,127 @@
+package com.employee.controller;
+
+import com.employee.dto.PayrollAnalyticsReport;
+import com.employee.dto.PayrollExportRequest;
+import com.employee.dto.PayrollExportStatus;
+import com.employee.dto.PayrollReportRow;
+import com.employee.dto.PayrollRequest;
+import com.employee.dto.PayrollRunStatus;
+import com.employee.model.Money;
+import com.employee.model.Payroll;
+import com.employee.service.PayrollAnalyticsService;
+import com.employee.service.PayrollExportJobService;
+import com.employee.service.PayrollRunService;
+import com.employee.service.PayrollService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+@RestController
+@RequestMapping("/api/payroll")
+@RequiredArgsConstructor
+public class PayrollController {
+
+    private final PayrollService payrollService;
+    private final PayrollRunService payrollRunService;
+    private final PayrollExportJobService payrollExportJobService;
+    private final PayrollAnalyticsService payrollAnalyticsService;
+
+    @GetMapping("/salary/{employeeId}")
+    public Callable<Money> calculateSalary(@PathVariable Long employeeId) {
+        return () -> payrollService.calculateSalary(employeeId);
+    }
+
+    @PostMapping
+    public Callable<ResponseEntity<Payroll>> generatePayrollReport(@RequestBody PayrollRequest request) {
+        return () -> new ResponseEntity<>(
+                payrollService.generatePayrollReport(request.getEmployeeId(), request.getMonth(), request.getYear()),
+                HttpStatus.CREATED);
+    }
+
+    @PostMapping("/runs")
+    public Callable<ResponseEntity<PayrollRunStatus>> runPayroll(@RequestBody PayrollRequest request) {
+        return () -> {
+            PayrollRunStatus run = payrollRunService.submit(request.getMonth(), request.getYear());
+            return ResponseEntity.accepted().location(URI.create("/api/payroll/runs/" + run.getRunId())).body(run);
+        };
+    }
+
+    @GetMapping("/runs/{runId}")
+    public Callable<PayrollRunStatus> getPayrollRun(@PathVariable String runId) {
+        return () -> payrollRunService.getRun(runId);
+    }
+
+    @PostMapping("/exports")
+    public Callable<ResponseEntity<PayrollExportStatus>> exportPayroll(@RequestBody PayrollExportRequest request) {
+        return () -> {
+            PayrollExportStatus export = payrollExportJobService.submit(request.getMonth(), request.getYear(),
+                    request.getFormat(), request.isGzip());
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/payroll/exports/" + export.getExportId()))
+                    .body(export);
+        };
+    }
+
+    @GetMapping("/exports/{exportId}")
+    public Callable<PayrollExportStatus> getPayrollExport(@PathVariable String exportId) {
+        return () -> payrollExportJobService.getExport(exportId);
+    }
+
+    @GetMapping("/exports/{exportId}/file")
+    public Callable<ResponseEntity<Resource>> downloadPayrollExport(@PathVariable String exportId) {
+        return () -> {
+            Path file = payrollExportJobService.getExportFile(exportId);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString())
+                    .body(new FileSystemResource(file));
+        };
+    }
+
+    @GetMapping("/employee/{employeeId}")
+    public Callable<List<Payroll>> getEmployeePayrollHistory(@PathVariable Long employeeId) {
+        return () -> payrollService.getEmployeePayrollHistory(employeeId);
+    }
+
+    @GetMapping
+    public Callable<List<PayrollReportRow>> getPayrollByMonth(@RequestParam String month, @RequestParam Integer year) {
+        return () -> payrollService.getPayrollByMonth(month, year);
+    }
+
+    @GetMapping("/periods")
+    public Callable<List<PayrollReportRow>> getPayrollByPeriodRange(@RequestParam YearMonth from,
+                                                                    @RequestParam YearMonth to) {
+        return () -> payrollService.getPayrollByPeriodRange(from, to);
+    }
+
+    @GetMapping("/analytics")
+    public Callable<PayrollAnalyticsReport> getPeriodAnalytics(@RequestParam String month,
+                                                               @RequestParam Integer year) {
+        return () -> payrollAnalyticsService.getPeriodAnalytics(month, year);
+    }
+
+    @GetMapping("/analytics/periods")
+    public Callable<List<PayrollAnalyticsReport>> getPeriodRangeAnalytics(@RequestParam YearMonth from,
+                                                                          @RequestParam YearMonth to) {
+        return () -> payrollAnalyticsService.getPeriodRangeAnalytics(from, to);
+    }
+}
@@ -0,0 +1,37 @@
+package com.employee.controller;
+
+import com.employee.dto.RosterFilter;
+import com.employee.dto.RosterStats;
+import com.employee.service.RosterSnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/roster")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "roster.snapshot.enabled", havingValue = "true")
+public class RosterController {
+
+    private final RosterSnapshotService rosterSnapshotService;
+
+    @GetMapping("/count")
+    public long count(RosterFilter filter) {
+        return rosterSnapshotService.count(filter);
+    }
+
+    @GetMapping("/ids")
+    public List<Long> findEmployeeIds(RosterFilter filter, @RequestParam(defaultValue = "1000") int limit) {
+        return rosterSnapshotService.findEmployeeIds(filter, limit);
+    }
+
+    @GetMapping("/stats")
+    public RosterStats stats(RosterFilter filter) {
+        return rosterSnapshotService.stats(filter);
+    }
+}
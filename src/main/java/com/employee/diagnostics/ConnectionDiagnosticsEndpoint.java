@@ -0,0 +1,64 @@
+package com.employee.diagnostics;
+
+import com.employee.dto.ConnectionHolderStats;
+import com.employee.dto.ConnectionPoolStatus;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@Endpoint(id = "connections")
+@RequiredArgsConstructor
+public class ConnectionDiagnosticsEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final ConnectionHoldTracker connectionHoldTracker;
+    private final List<HikariDataSource> dataSources;
+
+    @ReadOperation
+    public Map<String, Object> connections() {
+        return report(DEFAULT_LIMIT);
+    }
+
+    @ReadOperation
+    public Map<String, Object> connections(@Selector int limit) {
+        return report(limit > 0 ? limit : DEFAULT_LIMIT);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        connectionHoldTracker.reset();
+    }
+
+    private Map<String, Object> report(int limit) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("pools", pools());
+        report.put("holders", connectionHoldTracker.getHolders(limit));
+        return report;
+    }
+
+    private List<ConnectionPoolStatus> pools() {
+        List<ConnectionPoolStatus> pools = new ArrayList<>();
+        for (HikariDataSource hikari : dataSources) {
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            pools.add(new ConnectionPoolStatus(hikari.getPoolName(),
+                    pool != null ? pool.getActiveConnections() : 0,
+                    pool != null ? pool.getIdleConnections() : 0,
+                    pool != null ? pool.getThreadsAwaitingConnection() : 0,
+                    pool != null ? pool.getTotalConnections() : 0,
+                    hikari.getMaximumPoolSize(), hikari.getConnectionTimeout(), hikari.getLeakDetectionThreshold()));
+        }
+        return pools;
+    }
+}
@@ -0,0 +1,162 @@
+package com.employee.diagnostics;
+
+import com.employee.dto.ConnectionHolderStats;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ConnectionHoldTracker {
+
+    private static final Pattern THREAD_NUMBER = Pattern.compile("[-_#]?\\d+$");
+    private static final int MAX_HELD_PER_THREAD = 32;
+
+    private final ThreadLocal<String> owner = new ThreadLocal<>();
+    private final Map<Method, String> ownerNames = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, HolderStats>> statsByPool = new ConcurrentHashMap<>();
+
+    @Around("@within(org.springframework.stereotype.Service) && execution(public * com.employee.service..*(..))")
+    public Object trackOwner(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (owner.get() != null) {
+            return joinPoint.proceed();
+        }
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        owner.set(ownerNames.computeIfAbsent(method,
+                key -> key.getDeclaringClass().getSimpleName() + "." + key.getName()));
+        try {
+            return joinPoint.proceed();
+        } finally {
+            owner.remove();
+        }
+    }
+
+    public MetricsTrackerFactory metricsTrackerFactory(MeterRegistry meterRegistry) {
+        MicrometerMetricsTrackerFactory micrometer = new MicrometerMetricsTrackerFactory(meterRegistry);
+        return (poolName, poolStats) -> new OwnerMetricsTracker(poolName, micrometer.create(poolName, poolStats));
+    }
+
+    public List<ConnectionHolderStats> getHolders(int limit) {
+        List<ConnectionHolderStats> holders = new ArrayList<>();
+        statsByPool.forEach((pool, owners) -> owners.forEach((name, stats) -> {
+            long connections = stats.connections.sum();
+            long held = stats.heldMillis.sum();
+            long acquired = stats.acquires.sum();
+            holders.add(new ConnectionHolderStats(pool, name, connections, held,
+                    connections > 0 ? (double) held / connections : 0, stats.maxHeldMillis.get(),
+                    acquired > 0 ? stats.acquireNanos.sum() / 1_000_000.0 / acquired : 0,
+                    stats.maxAcquireNanos.get() / 1_000_000.0, stats.timeouts.sum()));
+        }));
+        holders.sort(Comparator.comparingLong(ConnectionHolderStats::getTotalHeldMillis).reversed());
+        return holders.size() > limit ? new ArrayList<>(holders.subList(0, limit)) : holders;
+    }
+
+    public void reset() {
+        statsByPool.clear();
+    }
+
+    private String currentOwner() {
+        String name = owner.get();
+        return name != null
+                ? name
+                : "thread:" + THREAD_NUMBER.matcher(Thread.currentThread().getName()).replaceFirst("");
+    }
+
+    private HolderStats stats(String pool, String name) {
+        return statsByPool.computeIfAbsent(pool, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(name, key -> new HolderStats());
+    }
+
+    private static final class HolderStats {
+
+        private final LongAdder connections = new LongAdder();
+        private final LongAdder heldMillis = new LongAdder();
+        private final LongAccumulator maxHeldMillis = new LongAccumulator(Math::max, 0);
+        private final LongAdder acquires = new LongAdder();
+        private final LongAdder acquireNanos = new LongAdder();
+        private final LongAccumulator maxAcquireNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder timeouts = new LongAdder();
+    }
+
+    private final class OwnerMetricsTracker implements IMetricsTracker {
+
+        private final String pool;
+        private final IMetricsTracker delegate;
+        private final ThreadLocal<Deque<String>> heldBy = ThreadLocal.withInitial(ArrayDeque::new);
+
+        private OwnerMetricsTracker(String pool, IMetricsTracker delegate) {
+            this.pool = pool;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            delegate.recordConnectionCreatedMillis(connectionCreatedMillis);
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            delegate.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+            HolderStats stats = stats(pool, acquired());
+            stats.acquires.increment();
+            stats.acquireNanos.add(elapsedAcquiredNanos);
+            stats.maxAcquireNanos.accumulate(elapsedAcquiredNanos);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            delegate.recordConnectionUsageMillis(elapsedBorrowedMillis);
+            HolderStats stats = stats(pool, released());
+            stats.connections.increment();
+            stats.heldMillis.add(elapsedBorrowedMillis);
+            stats.maxHeldMillis.accumulate(elapsedBorrowedMillis);
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            delegate.recordConnectionTimeout();
+            stats(pool, currentOwner()).timeouts.increment();
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+
+        private String acquired() {
+            String name = currentOwner();
+            Deque<String> held = heldBy.get();
+            if (held.size() == MAX_HELD_PER_THREAD) {
+                held.removeLast();
+            }
+            held.push(name);
+            return name;
+        }
+
+        private String released() {
+            String name = heldBy.get().poll();
+            return name != null ? name : currentOwner();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceReportRow {
+
+    private Long attendanceId;
+    private Long employeeId;
+    private String employeeName;
+    private String department;
+    private LocalDate attendanceDate;
+    private String status;
+    private LocalTime checkInTime;
+    private LocalTime checkOutTime;
+    private Double hoursWorked;
+}
@@ -0,0 +1,17 @@
+package com.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceRequest {
+
+    private Long employeeId;
+    private LocalDate date;
+    private String status;
+}
@@ -0,0 +1,21 @@
+package com.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConnectionHolderStats {
+
+    private String pool;
+    private String owner;
+    private long connections;
+    private long totalHeldMillis;
+    private double meanHeldMillis;
+    private long maxHeldMillis;
+    private double meanAcquireMillis;
+    private double maxAcquireMillis;
+    private long timeouts;
+}
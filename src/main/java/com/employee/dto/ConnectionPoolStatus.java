@@ -0,0 +1,20 @@
+package com.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConnectionPoolStatus {
+
+    private String pool;
+    private int active;
+    private int idle;
+    private int waiting;
+    private int total;
+    private int maximumPoolSize;
+    private long connectionTimeoutMillis;
+    private long leakDetectionThresholdMillis;
+}
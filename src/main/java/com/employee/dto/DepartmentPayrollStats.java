@@ -0,0 +1,26 @@
+package com.employee.dto;
+
+import com.employee.model.Money;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentPayrollStats {
+
+    private String department;
+    private String employeeType;
+    private long headcount;
+    private Money totalBasicSalary;
+    private Money totalAllowances;
+    private Money totalDeductions;
+    private Money totalNetSalary;
+    private Money meanBasicSalary;
+    private Money minBasicSalary;
+    private Money maxBasicSalary;
+    private Money p50BasicSalary;
+    private Money p90BasicSalary;
+    private Money p99BasicSalary;
+}
@@ -0,0 +1,14 @@
+package com.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeHours {
+
+    private Long employeeId;
+    private Double hoursWorked;
+}
@@ -0,0 +1,23 @@
+package com.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeImportSummary {
+
+    private String format;
+    private long rowsRead;
+    private long inserted;
+    private long updated;
+    private long failed;
+    private List<ImportRowError> errors;
+    private boolean errorsTruncated;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+}
@@ -0,0 +1,66 @@
+package com.employee.dto;
+
+import com.employee.exception.InvalidInputException;
+import com.employee.model.ContractEmployee;
+import com.employee.model.Employee;
+import com.employee.model.FullTimeEmployee;
+import com.employee.model.Money;
+import com.employee.model.PartTimeEmployee;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeRequest {
+
+    private String externalRef;
+    private String employeeType;
+    private String name;
+    private String department;
+    private Money salary;
+    private String roleType;
+    private String benefits;
+    private Integer annualLeave;
+    private Money hourlyRate;
+    private Integer hoursWorked;
+    private Integer contractDuration;
+    private Money contractAmount;
+
+    public Employee toEmployee() {
+        Employee employee;
+        String type = employeeType != null ? employeeType.trim().toUpperCase() : "";
+
+        switch (type) {
+            case "FULL_TIME" -> {
+                FullTimeEmployee fullTime = new FullTimeEmployee();
+                fullTime.setBenefits(benefits);
+                fullTime.setAnnualLeave(annualLeave);
+                employee = fullTime;
+            }
+            case "PART_TIME" -> {
+                PartTimeEmployee partTime = new PartTimeEmployee();
+                partTime.setHourlyRate(hourlyRate);
+                partTime.setHoursWorked(hoursWorked);
+                employee = partTime;
+            }
+            case "CONTRACT" -> {
+                ContractEmployee contract = new ContractEmployee();
+                contract.setContractDuration(contractDuration);
+                contract.setContractAmount(contractAmount);
+                employee = contract;
+            }
+            case "" -> employee = new Employee();
+            default -> throw new InvalidInputException("employeeType",
+                    "must be one of FULL_TIME, PART_TIME, CONTRACT but was " + employeeType);
+        }
+
+        employee.setName(name);
+        employee.setDepartment(department);
+        employee.setSalary(salary);
+        employee.setRoleType(roleType);
+        employee.setExternalRef(externalRef != null && !externalRef.isBlank() ? externalRef.trim() : null);
+        return employee;
+    }
+}
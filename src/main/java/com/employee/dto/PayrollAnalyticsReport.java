@@ -0,0 +1,21 @@
+package com.employee.dto;
+
+import com.employee.model.Money;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollAnalyticsReport {
+
+    private Integer period;
+    private long headcount;
+    private Money totalNetSalary;
+    private List<DepartmentPayrollStats> departments;
+    private LocalDateTime generatedAt;
+}
@@ -0,0 +1,16 @@
+package com.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollExportRequest {
+
+    private String month;
+    private Integer year;
+    private String format;
+    private boolean gzip;
+}
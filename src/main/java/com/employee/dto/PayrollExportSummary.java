@@ -0,0 +1,24 @@
+package com.employee.dto;
+
+import com.employee.model.Money;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollExportSummary {
+
+    private String format;
+    private Integer period;
+    private String file;
+    private boolean compressed;
+    private long rowsWritten;
+    private long rowsSkipped;
+    private Money totalNetSalary;
+    private long bytesWritten;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private double bytesPerSecond;
+}
@@ -0,0 +1,25 @@
+package com.employee.dto;
+
+import com.employee.model.Money;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollReportRow {
+
+    private Long payrollId;
+    private Long employeeId;
+    private String employeeName;
+    private String department;
+    private String month;
+    private Integer year;
+    private Integer period;
+    private Money basicSalary;
+    private Money allowances;
+    private Money deductions;
+    private Money netSalary;
+    private String status;
+}
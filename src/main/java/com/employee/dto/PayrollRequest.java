@@ -0,0 +1,15 @@
+package com.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollRequest {
+
+    private Long employeeId;
+    private String month;
+    private Integer year;
+}
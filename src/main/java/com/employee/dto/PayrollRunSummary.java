@@ -0,0 +1,20 @@
+package com.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollRunSummary {
+
+    private String month;
+    private Integer year;
+    private long employeesScanned;
+    private long payrollsCreated;
+    private long payrollsSkipped;
+    private long failures;
+    private long elapsedMillis;
+    private double employeesPerSecond;
+}
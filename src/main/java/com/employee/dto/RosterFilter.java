@@ -0,0 +1,18 @@
+package com.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RosterFilter {
+
+    private String department;
+    private String employeeType;
+    private BigDecimal minSalary;
+    private BigDecimal maxSalary;
+}
@@ -0,0 +1,18 @@
+package com.employee.dto;
+
+import com.employee.model.Money;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RosterStats {
+
+    private long headcount;
+    private Money totalSalary;
+    private Money meanSalary;
+    private Money minSalary;
+    private Money maxSalary;
+}
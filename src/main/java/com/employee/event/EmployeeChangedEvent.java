@@ -0,0 +1,6 @@
+package com.employee.event;
+
+import java.util.Collection;
+
+public record EmployeeChangedEvent(Collection<Long> employeeIds) {
+}
@@ -0,0 +1,4 @@
+package com.employee.event;
+
+public record PayrollPeriodChangedEvent(int period) {
+}
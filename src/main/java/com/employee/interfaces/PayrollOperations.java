@@ -1,14 +1,15 @@
 package com.employee.interfaces;
 
+import com.employee.model.Money;
 import com.employee.model.Payroll;
 
 public interface PayrollOperations {
 
-    Double calculateSalary(Long employeeId);
+    Money calculateSalary(Long employeeId);
 
     Payroll generatePayrollReport(Long employeeId, String month, Integer year);
 
-    Double handleDeductions(Double salary, Double deductions);
+    Money handleDeductions(Money salary, Money deductions);
 
-    Double handleAllowances(Double salary, Double allowances);
+    Money handleAllowances(Money salary, Money allowances);
 }
@@ -0,0 +1,39 @@
+package com.employee.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@IdClass(AttendanceSummaryId.class)
+@Table(name = "attendance_monthly_summary", indexes = {
+        @Index(name = "idx_attendance_summary_period", columnList = "period")
+})
+public class AttendanceMonthlySummary {
+
+    @Id
+    @Column(name = "employee_id")
+    private Long employeeId;
+
+    @Id
+    @Column(name = "period")
+    private Integer period;
+
+    @Column(name = "present_days", nullable = false)
+    private Integer presentDays;
+
+    @Column(name = "absent_days", nullable = false)
+    private Integer absentDays;
+
+    @Column(name = "total_hours", nullable = false)
+    private Double totalHours;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
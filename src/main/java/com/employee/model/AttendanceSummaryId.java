@@ -0,0 +1,16 @@
+package com.employee.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceSummaryId implements Serializable {
+
+    private Long employeeId;
+    private Integer period;
+}
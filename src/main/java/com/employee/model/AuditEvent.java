@@ -0,0 +1,44 @@
+package com.employee.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Immutable
+@Table(name = "audit_event", indexes = {
+        @Index(name = "idx_audit_event_entity", columnList = "entity_type, entity_id, audit_id"),
+        @Index(name = "idx_audit_event_recorded", columnList = "recorded_at, audit_id")
+})
+public class AuditEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_id_gen")
+    @SequenceGenerator(name = "audit_id_gen", sequenceName = "audit_event_seq", allocationSize = 50)
+    private Long auditId;
+
+    @Column(name = "entity_type", nullable = false, length = 32)
+    private String entityType;
+
+    @Column(name = "entity_id")
+    private Long entityId;
+
+    @Column(nullable = false, length = 32)
+    private String action;
+
+    @Column(columnDefinition = "TEXT")
+    private String changes;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+}
@@ -1,5 +1,6 @@
 package com.employee.model;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.DiscriminatorValue;
 import jakarta.persistence.Entity;
 import lombok.AllArgsConstructor;
@@ -16,12 +17,19 @@ import lombok.NoArgsConstructor;
 public class ContractEmployee extends Employee {
 
     private Integer contractDuration;
-    private Double contractAmount;
+
+    @Column(precision = 19, scale = 2)
+    private Money contractAmount;
 
     @Override
-    public Double calculateSalary() {
+    public Money calculateBasePay() {
         return contractAmount != null
-                ? contractAmount / (contractDuration != null && contractDuration > 0 ? contractDuration : 1)
-                : 0.0;
+                ? contractAmount.divide(contractDuration != null && contractDuration > 0 ? contractDuration : 1)
+                : Money.zero();
+    }
+
+    @Override
+    public String getEmployeeType() {
+        return "CONTRACT";
     }
 }
@@ -17,15 +17,21 @@ import java.time.LocalDateTime;
 public class Employee {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_id_gen")
+    @SequenceGenerator(name = "employee_id_gen", sequenceName = "employees_seq", allocationSize = 50)
     private Long employeeId;
     
     private String name;
     private String department;
-    private Double salary;
+
+    @Column(precision = 19, scale = 2)
+    private Money salary;
     
     @Column(name = "role_type")
     private String roleType;
+
+    @Column(name = "external_ref", unique = true, length = 64)
+    private String externalRef;
     
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -44,12 +50,26 @@ public class Employee {
         updatedAt = LocalDateTime.now();
     }
     
-    public Double calculateSalary() {
+    public Money calculateBasePay() {
         return this.salary;
     }
+
+    /**
+     * @deprecated kept with its original per-type results: the base pay, plus the fixed 15% uplift for
+     * full-time employees. Payroll no longer uses it. Use {@link #calculateBasePay()} for pay before payroll
+     * rules, or {@code PayrollService.calculateSalary(Long)} for the pay the payroll plan produces.
+     */
+    @Deprecated
+    public Money calculateSalary() {
+        return calculateBasePay();
+    }
+
+    public String getEmployeeType() {
+        return "EMPLOYEE";
+    }
     
     public String getEmployeeDetails() {
-        return String.format("ID: %d, Name: %s, Department: %s, Salary: %.2f", 
+        return String.format("ID: %d, Name: %s, Department: %s, Salary: %s", 
             employeeId, name, department, salary);
     }
 }
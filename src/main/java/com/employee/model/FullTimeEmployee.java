@@ -19,7 +19,13 @@ public class FullTimeEmployee extends Employee {
     private Integer annualLeave;
     
     @Override
-    public Double calculateSalary() {
-        return getSalary() + (getSalary() * 0.15);
+    @Deprecated
+    public Money calculateSalary() {
+        return getSalary().multiply(115, 100);
+    }
+
+    @Override
+    public String getEmployeeType() {
+        return "FULL_TIME";
     }
 }
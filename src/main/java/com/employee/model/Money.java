@@ -0,0 +1,174 @@
+package com.employee.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+
+public final class Money implements Comparable<Money>, Serializable {
+
+    public static final Currency DEFAULT_CURRENCY = Currency.getInstance("USD");
+
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1_000L, 10_000L};
+
+    private final long minorUnits;
+    private final Currency currency;
+
+    private Money(long minorUnits, Currency currency) {
+        this.minorUnits = minorUnits;
+        this.currency = currency;
+    }
+
+    public static Money ofMinor(long minorUnits) {
+        return new Money(minorUnits, DEFAULT_CURRENCY);
+    }
+
+    public static Money ofMinor(long minorUnits, Currency currency) {
+        if (currency == null) {
+            throw new IllegalArgumentException("Currency cannot be null");
+        }
+        return new Money(minorUnits, currency);
+    }
+
+    public static Money ofMajor(long majorUnits) {
+        return new Money(Math.multiplyExact(majorUnits, scaleFactor(DEFAULT_CURRENCY)), DEFAULT_CURRENCY);
+    }
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static Money of(BigDecimal amount) {
+        return of(amount, DEFAULT_CURRENCY);
+    }
+
+    public static Money of(BigDecimal amount, Currency currency) {
+        if (currency == null) {
+            throw new IllegalArgumentException("Currency cannot be null");
+        }
+        return new Money(toMinorUnits(amount, currency), currency);
+    }
+
+    public static long toMinorUnits(BigDecimal amount) {
+        return toMinorUnits(amount, DEFAULT_CURRENCY);
+    }
+
+    public static long toMinorUnits(BigDecimal amount, Currency currency) {
+        if (amount == null) {
+            throw new IllegalArgumentException("Amount cannot be null");
+        }
+        return amount.setScale(currency.getDefaultFractionDigits(), RoundingMode.HALF_EVEN)
+                .unscaledValue()
+                .longValueExact();
+    }
+
+    public static Money zero() {
+        return new Money(0L, DEFAULT_CURRENCY);
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    public Money plus(Money other) {
+        checkCurrency(other);
+        return new Money(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money minus(Money other) {
+        checkCurrency(other);
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money multiply(long quantity) {
+        return new Money(Math.multiplyExact(minorUnits, quantity), currency);
+    }
+
+    public Money multiply(long numerator, long denominator) {
+        return new Money(multiplyRounded(minorUnits, numerator, denominator), currency);
+    }
+
+    public Money divide(long divisor) {
+        return new Money(divideRounded(minorUnits, divisor), currency);
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0;
+    }
+
+    @JsonValue
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, currency.getDefaultFractionDigits());
+    }
+
+    public double toDouble() {
+        return (double) minorUnits / scaleFactor(currency);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        checkCurrency(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Money other)) {
+            return false;
+        }
+        return minorUnits == other.minorUnits && currency.equals(other.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(minorUnits) + currency.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    public static long multiplyRounded(long minorUnits, long numerator, long denominator) {
+        return divideRounded(Math.multiplyExact(minorUnits, numerator), denominator);
+    }
+
+    public static long divideRounded(long dividend, long divisor) {
+        if (divisor == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+        long twiceRemainder = Math.multiplyExact(Math.abs(remainder), 2L);
+        long absDivisor = Math.abs(divisor);
+        if (twiceRemainder > absDivisor || (twiceRemainder == absDivisor && (quotient & 1) != 0)) {
+            quotient += (dividend < 0) == (divisor < 0) ? 1 : -1;
+        }
+        return quotient;
+    }
+
+    private static long scaleFactor(Currency currency) {
+        return POWERS_OF_TEN[currency.getDefaultFractionDigits()];
+    }
+
+    private void checkCurrency(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException(
+                    String.format("Currency mismatch: %s and %s", currency, other.currency));
+        }
+    }
+}
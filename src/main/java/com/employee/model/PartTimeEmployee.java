@@ -1,5 +1,6 @@
 package com.employee.model;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.DiscriminatorValue;
 import jakarta.persistence.Entity;
 import lombok.AllArgsConstructor;
@@ -7,6 +8,9 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -15,14 +19,29 @@ import lombok.NoArgsConstructor;
 @DiscriminatorValue("PART_TIME")
 public class PartTimeEmployee extends Employee {
 
-    private Double hourlyRate;
+    @Column(precision = 19, scale = 2)
+    private Money hourlyRate;
+
     private Integer hoursWorked;
 
     @Override
-    public Double calculateSalary() {
-        if (hourlyRate != null && hoursWorked != null && hourlyRate > 0 && hoursWorked > 0) {
-            return hourlyRate * hoursWorked;
+    public Money calculateBasePay() {
+        if (hourlyRate != null && hoursWorked != null && hourlyRate.isPositive() && hoursWorked > 0) {
+            return hourlyRate.multiply(hoursWorked);
+        }
+        return Money.zero();
+    }
+
+    public Money calculateBasePay(BigDecimal hours) {
+        if (hourlyRate == null || hours == null || hours.signum() <= 0) {
+            return Money.zero();
         }
-        return 0.0;
+        long hundredthsOfHour = hours.movePointRight(2).setScale(0, RoundingMode.HALF_EVEN).longValueExact();
+        return hourlyRate.multiply(hundredthsOfHour, 100);
+    }
+
+    @Override
+    public String getEmployeeType() {
+        return "PART_TIME";
     }
 }
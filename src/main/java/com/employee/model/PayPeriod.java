@@ -0,0 +1,74 @@
+package com.employee.model;
+
+import com.employee.exception.InvalidInputException;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.YearMonth;
+import java.time.format.TextStyle;
+import java.util.Locale;
+
+public final class PayPeriod {
+
+    private PayPeriod() {
+    }
+
+    public static YearMonth parse(String month, Integer year) {
+        if (month == null || month.trim().isEmpty()) {
+            throw new InvalidInputException("Month cannot be null or empty");
+        }
+        if (year == null) {
+            throw new InvalidInputException("Year cannot be null");
+        }
+
+        try {
+            return YearMonth.of(year, parseMonth(month.trim()));
+        } catch (DateTimeException e) {
+            throw new InvalidInputException("year", e.getMessage());
+        }
+    }
+
+    public static int toKey(YearMonth period) {
+        return period.getYear() * 100 + period.getMonthValue();
+    }
+
+    public static int toKey(LocalDate date) {
+        return date.getYear() * 100 + date.getMonthValue();
+    }
+
+    public static YearMonth fromKey(int key) {
+        return YearMonth.of(key / 100, key % 100);
+    }
+
+    public static String monthName(YearMonth period) {
+        return period.getMonth().getDisplayName(TextStyle.FULL, Locale.ENGLISH);
+    }
+
+    public static LocalDate firstDay(YearMonth period) {
+        return period.atDay(1);
+    }
+
+    public static LocalDate lastDay(YearMonth period) {
+        return period.atEndOfMonth();
+    }
+
+    private static Month parseMonth(String month) {
+        if (month.chars().allMatch(Character::isDigit)) {
+            int number = Integer.parseInt(month);
+            if (number < 1 || number > 12) {
+                throw new InvalidInputException("month", "must be between 1 and 12 but was " + month);
+            }
+            return Month.of(number);
+        }
+
+        String upper = month.toUpperCase(Locale.ROOT);
+        for (Month candidate : Month.values()) {
+            String shortName = candidate.getDisplayName(TextStyle.SHORT, Locale.ENGLISH).toUpperCase(Locale.ROOT);
+            if (candidate.name().equals(upper) || shortName.equals(upper)) {
+                return candidate;
+            }
+        }
+        throw new InvalidInputException("month", "unrecognised month '" + month + "'");
+    }
+}
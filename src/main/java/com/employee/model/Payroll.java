@@ -1,9 +1,13 @@
 package com.employee.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -12,28 +16,45 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "payroll")
+@Table(name = "payroll", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_payroll_employee_period", columnNames = {"employee_id", "period"})
+}, indexes = {
+        @Index(name = "idx_payroll_period", columnList = "period")
+})
 public class Payroll {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payroll_id_gen")
+    @SequenceGenerator(name = "payroll_id_gen", sequenceName = "payroll_seq", allocationSize = 50)
     private Long payrollId;
 
-    @ManyToOne
-    @JoinColumn(name = "employee_id", nullable = false)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "employee_id", nullable = false,
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Employee employee;
 
     private String month;
+
+    @Column(nullable = false)
     private Integer year;
 
-    @Column(name = "basic_salary")
-    private Double basicSalary;
+    @Column(nullable = false)
+    private Integer period;
+
+    @Column(name = "basic_salary", precision = 19, scale = 2)
+    private Money basicSalary;
+
+    @Column(precision = 19, scale = 2)
+    private Money allowances;
 
-    private Double allowances;
-    private Double deductions;
+    @Column(precision = 19, scale = 2)
+    private Money deductions;
 
-    @Column(name = "net_salary")
-    private Double netSalary;
+    @Column(name = "net_salary", precision = 19, scale = 2)
+    private Money netSalary;
 
     @Column(name = "payment_date")
     private LocalDate paymentDate;
@@ -43,6 +64,11 @@ public class Payroll {
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
+    @JsonProperty("employeeId")
+    public Long getEmployeeId() {
+        return employee != null ? employee.getEmployeeId() : null;
+    }
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -1,7 +1,12 @@
 package com.employee.repository;
 
+import com.employee.dto.AttendanceReportRow;
+import com.employee.dto.EmployeeHours;
 import com.employee.model.Attendance;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -12,7 +17,41 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
 
     List<Attendance> findByEmployeeEmployeeId(Long employeeId);
 
+    boolean existsByEmployeeEmployeeId(Long employeeId);
+
     List<Attendance> findByAttendanceDate(LocalDate date);
 
+    @Query("select new com.employee.dto.AttendanceReportRow(a.attendanceId, e.employeeId, e.name, e.department,"
+            + " a.attendanceDate, a.status, a.checkInTime, a.checkOutTime, a.hoursWorked)"
+            + " from Attendance a join a.employee e"
+            + " where a.attendanceDate = :date order by e.employeeId")
+    List<AttendanceReportRow> findReportRowsByAttendanceDate(@Param("date") LocalDate date);
+
+    @Query("select new com.employee.dto.EmployeeHours(e.employeeId, sum(a.hoursWorked))"
+            + " from Attendance a join a.employee e"
+            + " where type(e) = PartTimeEmployee and a.attendanceDate between :from and :to"
+            + " group by e.employeeId")
+    List<EmployeeHours> sumPartTimeHoursBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("select coalesce(sum(a.hoursWorked), 0) from Attendance a"
+            + " where a.employee.employeeId = :employeeId and a.attendanceDate between :from and :to")
+    Double sumHoursWorked(@Param("employeeId") Long employeeId,
+                          @Param("from") LocalDate from,
+                          @Param("to") LocalDate to);
+
     List<Attendance> findByEmployeeEmployeeIdAndAttendanceDate(Long employeeId, LocalDate date);
+
+    List<Attendance> findByEmployeeEmployeeIdAndAttendanceDateBetweenOrderByAttendanceDateAscAttendanceIdAsc(
+            Long employeeId, LocalDate from, LocalDate to);
+
+    List<Attendance> findByEmployeeEmployeeIdOrderByAttendanceDateDescAttendanceIdDesc(Long employeeId, Pageable pageable);
+
+    @Query("select a from Attendance a where a.employee.employeeId = :employeeId"
+            + " and (a.attendanceDate < :beforeDate"
+            + " or (a.attendanceDate = :beforeDate and a.attendanceId < :beforeId))"
+            + " order by a.attendanceDate desc, a.attendanceId desc")
+    List<Attendance> findPageBefore(@Param("employeeId") Long employeeId,
+                                    @Param("beforeDate") LocalDate beforeDate,
+                                    @Param("beforeId") Long beforeId,
+                                    Pageable pageable);
 }
@@ -0,0 +1,60 @@
+package com.employee.repository;
+
+import com.employee.model.AttendanceMonthlySummary;
+import com.employee.model.AttendanceSummaryId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface AttendanceSummaryRepository extends JpaRepository<AttendanceMonthlySummary, AttendanceSummaryId> {
+
+    List<AttendanceMonthlySummary> findByPeriodOrderByEmployeeIdAsc(Integer period);
+
+    List<AttendanceMonthlySummary> findByEmployeeIdAndPeriodBetweenOrderByPeriodAsc(
+            Long employeeId, Integer fromPeriod, Integer toPeriod);
+
+    @Modifying
+    @Query(nativeQuery = true, value = "insert into attendance_monthly_summary"
+            + " (employee_id, period, present_days, absent_days, total_hours, updated_at)"
+            + " values (:employeeId, :period, :presentDays, :absentDays, :hours, current_timestamp)"
+            + " on duplicate key update"
+            + " present_days = present_days + values(present_days),"
+            + " absent_days = absent_days + values(absent_days),"
+            + " total_hours = total_hours + values(total_hours),"
+            + " updated_at = values(updated_at)")
+    int applyDelta(@Param("employeeId") Long employeeId,
+                   @Param("period") int period,
+                   @Param("presentDays") int presentDays,
+                   @Param("absentDays") int absentDays,
+                   @Param("hours") double hours);
+
+    @Modifying
+    @Query("delete from AttendanceMonthlySummary s where s.period between :fromPeriod and :toPeriod")
+    int deleteByPeriodBetween(@Param("fromPeriod") int fromPeriod, @Param("toPeriod") int toPeriod);
+
+    @Modifying
+    @Query(nativeQuery = true, value = "insert into attendance_monthly_summary"
+            + " (employee_id, period, present_days, absent_days, total_hours, updated_at)"
+            + " select a.employee_id,"
+            + " extract(year from a.attendance_date) * 100 + extract(month from a.attendance_date),"
+            + " sum(case when upper(trim(a.status)) = 'PRESENT' then 1 else 0 end),"
+            + " sum(case when upper(trim(a.status)) = 'ABSENT' then 1 else 0 end),"
+            + " coalesce(sum(a.hours_worked), 0),"
+            + " current_timestamp"
+            + " from attendance a"
+            + " where a.attendance_date between :from and :to"
+            + " group by a.employee_id,"
+            + " extract(year from a.attendance_date) * 100 + extract(month from a.attendance_date)"
+            + " on duplicate key update"
+            + " present_days = values(present_days),"
+            + " absent_days = values(absent_days),"
+            + " total_hours = values(total_hours),"
+            + " updated_at = values(updated_at)")
+    int rebuildFromAttendance(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,29 @@
+package com.employee.repository;
+
+import com.employee.model.AuditEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AuditEventRepository extends JpaRepository<AuditEvent, Long> {
+
+    @Query("select e from AuditEvent e where e.recordedAt <= :horizon order by e.recordedAt asc, e.auditId asc")
+    List<AuditEvent> findRecordedUpTo(@Param("horizon") LocalDateTime horizon, Pageable pageable);
+
+    @Query("select e from AuditEvent e where (e.recordedAt > :recordedAt"
+            + " or (e.recordedAt = :recordedAt and e.auditId > :auditId))"
+            + " and e.recordedAt <= :horizon"
+            + " order by e.recordedAt asc, e.auditId asc")
+    List<AuditEvent> findRecordedAfter(@Param("recordedAt") LocalDateTime recordedAt,
+                                       @Param("auditId") Long auditId,
+                                       @Param("horizon") LocalDateTime horizon,
+                                       Pageable pageable);
+
+    List<AuditEvent> findByEntityTypeAndEntityIdOrderByRecordedAtAscAuditIdAsc(String entityType, Long entityId);
+}
@@ -1,13 +1,34 @@
 package com.employee.repository;
 
 import com.employee.model.Employee;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
     List<Employee> findByDepartment(String department);
+
+    List<Employee> findByExternalRefIn(Collection<String> externalRefs);
+
+    @Query("select e.employeeId from Employee e")
+    List<Long> findAllEmployeeIds();
+
+    List<Employee> findByEmployeeIdGreaterThanOrderByEmployeeIdAsc(Long employeeId, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select e from Employee e order by e.employeeId")
+    Stream<Employee> streamAllOrderedById();
 }
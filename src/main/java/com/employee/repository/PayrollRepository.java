@@ -1,18 +1,36 @@
 package com.employee.repository;
 
+import com.employee.dto.PayrollReportRow;
 import com.employee.model.Payroll;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface PayrollRepository extends JpaRepository<Payroll, Long> {
 
-    List<Payroll> findByEmployeeEmployeeId(Long employeeId);
+    List<Payroll> findByEmployeeEmployeeIdOrderByPeriodAsc(Long employeeId);
 
-    Optional<Payroll> findByEmployeeEmployeeIdAndMonthAndYear(Long employeeId, String month, Integer year);
+    boolean existsByEmployeeEmployeeId(Long employeeId);
 
-    List<Payroll> findByMonthAndYear(String month, Integer year);
+    Optional<Payroll> findByEmployeeEmployeeIdAndPeriod(Long employeeId, Integer period);
+
+    List<Payroll> findByPeriod(Integer period);
+
+    List<Payroll> findByPeriodBetweenOrderByPeriodAsc(Integer fromPeriod, Integer toPeriod);
+
+    @Query("select new com.employee.dto.PayrollReportRow(p.payrollId, e.employeeId, e.name, e.department,"
+            + " p.month, p.year, p.period, p.basicSalary, p.allowances, p.deductions, p.netSalary, p.status)"
+            + " from Payroll p join p.employee e"
+            + " where p.period between :fromPeriod and :toPeriod order by p.period, e.employeeId")
+    List<PayrollReportRow> findReportRowsByPeriodBetween(@Param("fromPeriod") Integer fromPeriod,
+                                                         @Param("toPeriod") Integer toPeriod);
+
+    @Query("select p.employee.employeeId from Payroll p where p.period = :period")
+    Set<Long> findEmployeeIdsByPeriod(@Param("period") Integer period);
 }
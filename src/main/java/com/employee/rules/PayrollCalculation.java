@@ -0,0 +1,17 @@
+package com.employee.rules;
+
+import com.employee.model.Money;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollCalculation {
+
+    private Money basicSalary;
+    private Money allowances;
+    private Money deductions;
+    private Money netSalary;
+}
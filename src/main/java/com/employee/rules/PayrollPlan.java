@@ -0,0 +1,226 @@
+package com.employee.rules;
+
+import com.employee.model.Employee;
+import com.employee.model.Money;
+import com.employee.model.PartTimeEmployee;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class PayrollPlan {
+
+    private static final long BASIS_POINTS = 10_000L;
+    private static final long HUNDREDTHS = 100L;
+
+    private final String version;
+    private final TypeRules anyType;
+    private final Map<String, TypeRules> byType;
+
+    private PayrollPlan(String version, TypeRules anyType, Map<String, TypeRules> byType) {
+        this.version = version;
+        this.anyType = anyType;
+        this.byType = byType;
+    }
+
+    public static PayrollPlan compile(PayrollRuleSet ruleSet) {
+        Map<String, Map<String, PayrollRule>> index = new HashMap<>();
+        Set<String> types = new LinkedHashSet<>();
+        Set<String> departments = new LinkedHashSet<>();
+
+        for (PayrollRule rule : ruleSet.getRules()) {
+            String type = normalise(rule.getEmployeeType());
+            String department = normalise(rule.getDepartment());
+            validate(rule, type, department);
+            if (index.computeIfAbsent(type, t -> new HashMap<>()).put(department, rule) != null) {
+                throw new IllegalArgumentException(
+                        String.format("Duplicate payroll rule for employeeType %s and department %s", type, department));
+            }
+            if (!PayrollRule.ANY.equals(type)) {
+                types.add(type);
+            }
+            if (!PayrollRule.ANY.equals(department)) {
+                departments.add(department);
+            }
+        }
+
+        CompiledRule global = CompiledRule.NONE.with(rule(index, PayrollRule.ANY, PayrollRule.ANY));
+        Map<String, CompiledRule> departmentWide = new HashMap<>();
+        for (String department : departments) {
+            departmentWide.put(department, global.with(rule(index, PayrollRule.ANY, department)));
+        }
+
+        TypeRules anyType = new TypeRules(global, Collections.unmodifiableMap(departmentWide));
+        Map<String, TypeRules> byType = new HashMap<>();
+        for (String type : types) {
+            CompiledRule typeDefault = global.with(rule(index, type, PayrollRule.ANY));
+            Map<String, CompiledRule> byDepartment = new HashMap<>();
+            for (String department : departments) {
+                byDepartment.put(department, departmentWide.get(department)
+                        .with(rule(index, type, PayrollRule.ANY))
+                        .with(rule(index, type, department)));
+            }
+            byType.put(type, new TypeRules(typeDefault, Collections.unmodifiableMap(byDepartment)));
+        }
+
+        return new PayrollPlan(ruleSet.getVersion(), anyType, Collections.unmodifiableMap(byType));
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public PayrollCalculation evaluate(Employee employee, Money basePay, BigDecimal hoursWorked) {
+        CompiledRule rule = ruleFor(employee.getEmployeeType(), employee.getDepartment());
+
+        long base = basePay.getMinorUnits();
+        long gross = Math.addExact(base, Money.multiplyRounded(base, rule.upliftBasisPoints, BASIS_POINTS));
+        if (rule.overtimeThresholdHundredths >= 0 && hoursWorked != null
+                && employee instanceof PartTimeEmployee partTime && partTime.getHourlyRate() != null) {
+            long overtimeHundredths = toHundredths(hoursWorked) - rule.overtimeThresholdHundredths;
+            if (overtimeHundredths > 0) {
+                gross = Math.addExact(gross, Money.multiplyRounded(partTime.getHourlyRate().getMinorUnits(),
+                        overtimeHundredths * rule.overtimePremiumBasisPoints, HUNDREDTHS * BASIS_POINTS));
+            }
+        }
+
+        long taxable = Math.addExact(gross, rule.allowances);
+        long deductions = Math.addExact(rule.deductions, rule.tax(taxable));
+        Currency currency = basePay.getCurrency();
+        return new PayrollCalculation(Money.ofMinor(gross, currency), Money.ofMinor(rule.allowances, currency),
+                Money.ofMinor(deductions, currency), Money.ofMinor(Math.subtractExact(taxable, deductions), currency));
+    }
+
+    CompiledRule ruleFor(String employeeType, String department) {
+        TypeRules typeRules = employeeType != null ? byType.getOrDefault(employeeType, anyType) : anyType;
+        if (department == null) {
+            return typeRules.typeDefault;
+        }
+        return typeRules.byDepartment.getOrDefault(department, typeRules.typeDefault);
+    }
+
+    private static PayrollRule rule(Map<String, Map<String, PayrollRule>> index, String type, String department) {
+        Map<String, PayrollRule> byDepartment = index.get(type);
+        return byDepartment != null ? byDepartment.get(department) : null;
+    }
+
+    private static String normalise(String value) {
+        return value == null || value.isBlank() ? PayrollRule.ANY : value.trim();
+    }
+
+    private static void validate(PayrollRule rule, String type, String department) {
+        String where = type + "/" + department;
+        requireNonNegative(rule.getUpliftPercent(), "upliftPercent", where);
+        requireNonNegative(rule.getOvertimeThresholdHours(), "overtimeThresholdHours", where);
+        requireNonNegative(rule.getOvertimePremiumPercent(), "overtimePremiumPercent", where);
+        if ((rule.getOvertimeThresholdHours() == null) != (rule.getOvertimePremiumPercent() == null)) {
+            throw new IllegalArgumentException(
+                    "Rule " + where + " must set overtimeThresholdHours and overtimePremiumPercent together");
+        }
+        if (rule.getTaxBrackets() != null) {
+            for (int i = 0; i < rule.getTaxBrackets().size(); i++) {
+                PayrollRule.TaxBracket bracket = rule.getTaxBrackets().get(i);
+                requireNonNegative(bracket.getRatePercent(), "taxBrackets.ratePercent", where);
+                if (bracket.getRatePercent() == null) {
+                    throw new IllegalArgumentException("Rule " + where + " has a tax bracket without ratePercent");
+                }
+                if (bracket.getUpTo() == null && i < rule.getTaxBrackets().size() - 1) {
+                    throw new IllegalArgumentException("Rule " + where + " has an open tax bracket before the last one");
+                }
+            }
+        }
+    }
+
+    private static void requireNonNegative(BigDecimal value, String field, String where) {
+        if (value != null && value.signum() < 0) {
+            throw new IllegalArgumentException("Rule " + where + " has negative " + field);
+        }
+    }
+
+    private static long toBasisPoints(BigDecimal percent) {
+        return percent.movePointRight(2).setScale(0, RoundingMode.HALF_EVEN).longValueExact();
+    }
+
+    private static long toHundredths(BigDecimal hours) {
+        return hours.movePointRight(2).setScale(0, RoundingMode.HALF_EVEN).longValueExact();
+    }
+
+    private record TypeRules(CompiledRule typeDefault, Map<String, CompiledRule> byDepartment) {
+    }
+
+    static final class CompiledRule {
+
+        static final CompiledRule NONE = new CompiledRule(0L, 0L, 0L, new long[0], new long[0], -1L, 0L);
+
+        final long upliftBasisPoints;
+        final long allowances;
+        final long deductions;
+        final long[] bracketCeilings;
+        final long[] bracketRateBasisPoints;
+        final long overtimeThresholdHundredths;
+        final long overtimePremiumBasisPoints;
+
+        private CompiledRule(long upliftBasisPoints, long allowances, long deductions,
+                             long[] bracketCeilings, long[] bracketRateBasisPoints,
+                             long overtimeThresholdHundredths, long overtimePremiumBasisPoints) {
+            this.upliftBasisPoints = upliftBasisPoints;
+            this.allowances = allowances;
+            this.deductions = deductions;
+            this.bracketCeilings = bracketCeilings;
+            this.bracketRateBasisPoints = bracketRateBasisPoints;
+            this.overtimeThresholdHundredths = overtimeThresholdHundredths;
+            this.overtimePremiumBasisPoints = overtimePremiumBasisPoints;
+        }
+
+        CompiledRule with(PayrollRule rule) {
+            if (rule == null) {
+                return this;
+            }
+
+            long[] ceilings = bracketCeilings;
+            long[] rates = bracketRateBasisPoints;
+            if (rule.getTaxBrackets() != null) {
+                List<PayrollRule.TaxBracket> brackets = new ArrayList<>(rule.getTaxBrackets());
+                brackets.sort(Comparator.comparingLong(bracket ->
+                        bracket.getUpTo() != null ? bracket.getUpTo().getMinorUnits() : Long.MAX_VALUE));
+                ceilings = new long[brackets.size()];
+                rates = new long[brackets.size()];
+                for (int i = 0; i < brackets.size(); i++) {
+                    PayrollRule.TaxBracket bracket = brackets.get(i);
+                    ceilings[i] = bracket.getUpTo() != null ? bracket.getUpTo().getMinorUnits() : Long.MAX_VALUE;
+                    rates[i] = toBasisPoints(bracket.getRatePercent());
+                }
+            }
+
+            return new CompiledRule(
+                    rule.getUpliftPercent() != null ? toBasisPoints(rule.getUpliftPercent()) : upliftBasisPoints,
+                    rule.getAllowances() != null ? rule.getAllowances().getMinorUnits() : allowances,
+                    rule.getDeductions() != null ? rule.getDeductions().getMinorUnits() : deductions,
+                    ceilings,
+                    rates,
+                    rule.getOvertimeThresholdHours() != null
+                            ? toHundredths(rule.getOvertimeThresholdHours()) : overtimeThresholdHundredths,
+                    rule.getOvertimePremiumPercent() != null
+                            ? toBasisPoints(rule.getOvertimePremiumPercent()) : overtimePremiumBasisPoints);
+        }
+
+        long tax(long taxable) {
+            long tax = 0;
+            long lower = 0;
+            for (int i = 0; i < bracketCeilings.length && taxable > lower; i++) {
+                long slice = Math.min(taxable, bracketCeilings[i]) - lower;
+                tax = Math.addExact(tax, Money.multiplyRounded(slice, bracketRateBasisPoints[i], BASIS_POINTS));
+                lower = bracketCeilings[i];
+            }
+            return tax;
+        }
+    }
+}
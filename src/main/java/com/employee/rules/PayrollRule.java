@@ -0,0 +1,35 @@
+package com.employee.rules;
+
+import com.employee.model.Money;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollRule {
+
+    public static final String ANY = "*";
+
+    private String employeeType = ANY;
+    private String department = ANY;
+    private BigDecimal upliftPercent;
+    private Money allowances;
+    private Money deductions;
+    private List<TaxBracket> taxBrackets;
+    private BigDecimal overtimeThresholdHours;
+    private BigDecimal overtimePremiumPercent;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TaxBracket {
+
+        private Money upTo;
+        private BigDecimal ratePercent;
+    }
+}
@@ -0,0 +1,17 @@
+package com.employee.rules;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollRuleSet {
+
+    private String version;
+    private List<PayrollRule> rules = new ArrayList<>();
+}
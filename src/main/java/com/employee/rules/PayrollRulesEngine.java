@@ -0,0 +1,90 @@
+package com.employee.rules;
+
+import com.employee.model.Employee;
+import com.employee.model.Money;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+
+@Component
+@RequiredArgsConstructor
+public class PayrollRulesEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayrollRulesEngine.class);
+
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+
+    @Value("${payroll.rules.location:classpath:payroll-rules.json}")
+    private String location;
+
+    private volatile PayrollPlan plan;
+    private volatile long loadedLastModified;
+
+    @PostConstruct
+    void init() {
+        reload();
+    }
+
+    public PayrollCalculation evaluate(Employee employee, Money basePay, BigDecimal hoursWorked) {
+        return plan.evaluate(employee, basePay, hoursWorked);
+    }
+
+    public PayrollPlan getPlan() {
+        return plan;
+    }
+
+    @Scheduled(initialDelayString = "${payroll.rules.reload-interval-ms:30000}",
+            fixedDelayString = "${payroll.rules.reload-interval-ms:30000}")
+    public void reloadIfChanged() {
+        long lastModified = lastModified(resourceLoader.getResource(location));
+        if (lastModified <= 0 || lastModified == loadedLastModified) {
+            return;
+        }
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            logger.error("Keeping payroll rules version {}: reload of {} failed: {}",
+                    plan.getVersion(), location, e.getMessage());
+        }
+    }
+
+    public synchronized PayrollPlan reload() {
+        Resource resource = resourceLoader.getResource(location);
+        long lastModified = lastModified(resource);
+
+        PayrollRuleSet ruleSet;
+        try (InputStream in = resource.getInputStream()) {
+            ruleSet = objectMapper.readValue(in, PayrollRuleSet.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read payroll rules from " + location, e);
+        }
+
+        PayrollPlan compiled = PayrollPlan.compile(ruleSet);
+        plan = compiled;
+        loadedLastModified = lastModified;
+        logger.info("Loaded payroll rules version {} ({} rules) from {}",
+                compiled.getVersion(), ruleSet.getRules().size(), location);
+        return compiled;
+    }
+
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+}
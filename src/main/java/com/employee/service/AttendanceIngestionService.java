@@ -0,0 +1,233 @@
+package com.employee.service;
+
+import com.employee.exception.InvalidInputException;
+import com.employee.exception.ResourceNotFoundException;
+import com.employee.exception.ServiceUnavailableException;
+import com.employee.model.Attendance;
+import com.employee.repository.AttendanceRepository;
+import com.employee.repository.EmployeeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@RequiredArgsConstructor
+public class AttendanceIngestionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttendanceIngestionService.class);
+
+    private final AttendanceRepository attendanceRepository;
+    private final EmployeeRepository employeeRepository;
+    private final AttendanceSummaryService attendanceSummaryService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final Set<Long> knownEmployeeIds = ConcurrentHashMap.newKeySet();
+
+    @Value("${attendance.ingestion.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${attendance.ingestion.batch-size:500}")
+    private int batchSize;
+
+    @Value("${attendance.ingestion.flush-interval-ms:1000}")
+    private long flushIntervalMillis;
+
+    @Value("${attendance.ingestion.offer-timeout-ms:200}")
+    private long offerTimeoutMillis;
+
+    @Value("${attendance.ingestion.employee-id-refresh-ms:300000}")
+    private long employeeIdRefreshMillis;
+
+    private BlockingQueue<ClockInEvent> queue;
+    private Thread flusher;
+    private volatile boolean running;
+    private volatile long employeeIdsLoadedAt;
+
+    private Timer flushTimer;
+    private Counter acceptedCounter;
+    private Counter rejectedCounter;
+    private Counter persistedCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("attendance.ingestion.queue.depth", queue, BlockingQueue::size)
+                .description("Clock-in events waiting to be flushed")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("attendance.ingestion.flush")
+                .description("Time taken to write one batch of clock-in events")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        acceptedCounter = eventCounter("accepted");
+        rejectedCounter = eventCounter("rejected");
+        persistedCounter = eventCounter("persisted");
+        failedCounter = eventCounter("failed");
+
+        running = true;
+        flusher = new Thread(this::runFlushLoop, "attendance-ingestion");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        flusher.join(flushIntervalMillis * 2 + 5_000);
+    }
+
+    public void submitClockIn(Long employeeId, LocalDate date, String status) {
+        if (employeeId == null) {
+            throw new InvalidInputException("Employee ID cannot be null");
+        }
+        if (date == null) {
+            throw new InvalidInputException("Date cannot be null");
+        }
+        if (!running) {
+            throw new ServiceUnavailableException("Attendance ingestion is shutting down");
+        }
+        if (!isKnownEmployee(employeeId)) {
+            throw new ResourceNotFoundException("Employee", "ID", employeeId);
+        }
+
+        ClockInEvent event = new ClockInEvent(employeeId, date, status, LocalTime.now());
+        try {
+            if (!queue.offer(event, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                rejectedCounter.increment();
+                throw new ServiceUnavailableException("Attendance ingestion queue is full, retry later");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while queueing clock-in", e);
+        }
+        acceptedCounter.increment();
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    private boolean isKnownEmployee(Long employeeId) {
+        if (System.currentTimeMillis() - employeeIdsLoadedAt > employeeIdRefreshMillis) {
+            refreshKnownEmployeeIds();
+        }
+        if (knownEmployeeIds.contains(employeeId)) {
+            return true;
+        }
+        if (employeeRepository.existsById(employeeId)) {
+            knownEmployeeIds.add(employeeId);
+            return true;
+        }
+        return false;
+    }
+
+    private synchronized void refreshKnownEmployeeIds() {
+        if (System.currentTimeMillis() - employeeIdsLoadedAt <= employeeIdRefreshMillis) {
+            return;
+        }
+        List<Long> ids = employeeRepository.findAllEmployeeIds();
+        knownEmployeeIds.retainAll(ids);
+        knownEmployeeIds.addAll(ids);
+        employeeIdsLoadedAt = System.currentTimeMillis();
+        logger.debug("Loaded {} employee IDs for clock-in validation", ids.size());
+    }
+
+    private void runFlushLoop() {
+        List<ClockInEvent> batch = new ArrayList<>(batchSize);
+        long flushDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                long waitNanos = flushDeadline - System.nanoTime();
+                ClockInEvent event = running && waitNanos > 0 ? queue.poll(waitNanos, TimeUnit.NANOSECONDS) : null;
+                if (event != null) {
+                    batch.add(event);
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            }
+            queue.drainTo(batch, batchSize - batch.size());
+
+            if (batch.size() >= batchSize || System.nanoTime() >= flushDeadline || !running) {
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                    batch.clear();
+                }
+                flushDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+            }
+        }
+    }
+
+    private void flush(List<ClockInEvent> batch) {
+        flushTimer.record(() -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    attendanceRepository.saveAll(batch.stream().map(this::toAttendance).toList());
+                    attendanceSummaryService.recordBatch(batch.stream().map(ClockInEvent::toEntry).toList());
+                });
+                persistedCounter.increment(batch.size());
+            } catch (RuntimeException e) {
+                logger.warn("Flushing {} clock-ins failed, retrying one by one: {}", batch.size(), e.getMessage());
+                batch.forEach(this::flushSingle);
+            }
+        });
+    }
+
+    private void flushSingle(ClockInEvent event) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                attendanceRepository.save(toAttendance(event));
+                attendanceSummaryService.recordAttendance(event.employeeId(), event.date(), event.status(), null);
+            });
+            persistedCounter.increment();
+        } catch (RuntimeException e) {
+            knownEmployeeIds.remove(event.employeeId());
+            failedCounter.increment();
+            logger.error("Dropping clock-in for employee {} on {}: {}",
+                    event.employeeId(), event.date(), e.getMessage());
+        }
+    }
+
+    private Attendance toAttendance(ClockInEvent event) {
+        Attendance attendance = new Attendance();
+        attendance.setEmployee(employeeRepository.getReferenceById(event.employeeId()));
+        attendance.setAttendanceDate(event.date());
+        attendance.setStatus(event.status());
+        attendance.setCheckInTime(event.checkInTime());
+        return attendance;
+    }
+
+    private Counter eventCounter(String outcome) {
+        return Counter.builder("attendance.ingestion.events")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record ClockInEvent(Long employeeId, LocalDate date, String status, LocalTime checkInTime) {
+
+        AttendanceSummaryService.AttendanceEntry toEntry() {
+            return new AttendanceSummaryService.AttendanceEntry(employeeId, date, status, null);
+        }
+    }
+}
@@ -1,13 +1,18 @@
 package com.employee.service;
 
+import com.employee.config.MetricsConfig;
+import com.employee.dto.AttendanceReportRow;
 import com.employee.exception.InvalidInputException;
 import com.employee.exception.ResourceNotFoundException;
 import com.employee.model.Attendance;
 import com.employee.model.Employee;
 import com.employee.repository.AttendanceRepository;
-import com.employee.repository.EmployeeRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -15,18 +20,20 @@ import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class AttendanceService {
 
     private final AttendanceRepository attendanceRepository;
-    private final EmployeeRepository employeeRepository;
+    private final EmployeeService employeeService;
+    private final AttendanceSummaryService attendanceSummaryService;
 
+    @Transactional
     public Attendance trackAttendance(Long employeeId, LocalDate date, String status) {
         if (employeeId == null) {
             throw new InvalidInputException("Employee ID cannot be null");
         }
 
-        Employee employee = employeeRepository.findById(employeeId)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee", "ID", employeeId));
+        Employee employee = employeeService.viewEmployeeDetails(employeeId);
 
         Attendance attendance = new Attendance();
         attendance.setEmployee(employee);
@@ -34,9 +41,12 @@ public class AttendanceService {
         attendance.setStatus(status);
         attendance.setCheckInTime(LocalTime.now());
 
-        return attendanceRepository.save(attendance);
+        Attendance saved = attendanceRepository.save(attendance);
+        attendanceSummaryService.recordAttendance(employeeId, date, status, saved.getHoursWorked());
+        return saved;
     }
 
+    @Transactional
     public Attendance markCheckOut(Long attendanceId) {
         if (attendanceId == null) {
             throw new InvalidInputException("Attendance ID cannot be null");
@@ -45,16 +55,20 @@ public class AttendanceService {
         Attendance attendance = attendanceRepository.findById(attendanceId)
                 .orElseThrow(() -> new ResourceNotFoundException("Attendance", "ID", attendanceId));
 
+        Double previousHours = attendance.getHoursWorked();
         attendance.setCheckOutTime(LocalTime.now());
 
         if (attendance.getCheckInTime() != null) {
-            long hours = java.time.Duration.between(
+            long minutes = java.time.Duration.between(
                     attendance.getCheckInTime(),
-                    attendance.getCheckOutTime()).toHours();
-            attendance.setHoursWorked((double) hours);
+                    attendance.getCheckOutTime()).toMinutes();
+            attendance.setHoursWorked(Math.round(minutes * 100 / 60.0) / 100.0);
         }
 
-        return attendanceRepository.save(attendance);
+        Attendance saved = attendanceRepository.save(attendance);
+        attendanceSummaryService.recordHours(saved.getEmployeeId(), saved.getAttendanceDate(),
+                previousHours, saved.getHoursWorked());
+        return saved;
     }
 
     public List<Attendance> getEmployeeAttendanceLogs(Long employeeId) {
@@ -65,11 +79,46 @@ public class AttendanceService {
         return attendanceRepository.findByEmployeeEmployeeId(employeeId);
     }
 
-    public List<Attendance> getAttendanceByDate(LocalDate date) {
+    public List<Attendance> getEmployeeAttendanceLogs(Long employeeId, LocalDate from, LocalDate to) {
+        if (employeeId == null) {
+            throw new InvalidInputException("Employee ID cannot be null");
+        }
+        if (from == null || to == null) {
+            throw new InvalidInputException("Date range cannot be null");
+        }
+        if (from.isAfter(to)) {
+            throw new InvalidInputException("from", "must not be after " + to);
+        }
+
+        return attendanceRepository.findByEmployeeEmployeeIdAndAttendanceDateBetweenOrderByAttendanceDateAscAttendanceIdAsc(
+                employeeId, from, to);
+    }
+
+    public List<Attendance> getEmployeeAttendancePage(Long employeeId, LocalDate beforeDate, Long beforeId,
+                                                      int pageSize) {
+        if (employeeId == null) {
+            throw new InvalidInputException("Employee ID cannot be null");
+        }
+        if (pageSize <= 0) {
+            throw new InvalidInputException("pageSize", "must be greater than zero");
+        }
+        if ((beforeDate == null) != (beforeId == null)) {
+            throw new InvalidInputException("beforeDate and beforeId must be supplied together");
+        }
+
+        Pageable limit = PageRequest.of(0, pageSize);
+        if (beforeDate == null) {
+            return attendanceRepository.findByEmployeeEmployeeIdOrderByAttendanceDateDescAttendanceIdDesc(
+                    employeeId, limit);
+        }
+        return attendanceRepository.findPageBefore(employeeId, beforeDate, beforeId, limit);
+    }
+
+    public List<AttendanceReportRow> getAttendanceByDate(LocalDate date) {
         if (date == null) {
             throw new InvalidInputException("Date cannot be null");
         }
 
-        return attendanceRepository.findByAttendanceDate(date);
+        return attendanceRepository.findReportRowsByAttendanceDate(date);
     }
 }
@@ -0,0 +1,117 @@
+package com.employee.service;
+
+import com.employee.config.RoutingDataSource;
+import com.employee.exception.InvalidInputException;
+import com.employee.model.AttendanceMonthlySummary;
+import com.employee.model.AttendanceSummaryId;
+import com.employee.model.PayPeriod;
+import com.employee.repository.AttendanceSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class AttendanceSummaryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttendanceSummaryService.class);
+
+    private final AttendanceSummaryRepository attendanceSummaryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${attendance.summary.reconcile-months:2}")
+    private int reconcileMonths;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAttendance(Long employeeId, LocalDate date, String status, Double hoursWorked) {
+        attendanceSummaryRepository.applyDelta(employeeId, PayPeriod.toKey(date),
+                isStatus(status, "PRESENT") ? 1 : 0,
+                isStatus(status, "ABSENT") ? 1 : 0,
+                hoursWorked != null ? hoursWorked : 0.0);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordHours(Long employeeId, LocalDate date, Double previousHours, Double hoursWorked) {
+        double delta = (hoursWorked != null ? hoursWorked : 0.0) - (previousHours != null ? previousHours : 0.0);
+        if (delta != 0.0) {
+            attendanceSummaryRepository.applyDelta(employeeId, PayPeriod.toKey(date), 0, 0, delta);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordBatch(List<AttendanceEntry> entries) {
+        Map<AttendanceSummaryId, int[]> days = new LinkedHashMap<>();
+        Map<AttendanceSummaryId, Double> hours = new LinkedHashMap<>();
+        for (AttendanceEntry entry : entries) {
+            AttendanceSummaryId key = new AttendanceSummaryId(entry.employeeId(), PayPeriod.toKey(entry.date()));
+            int[] counts = days.computeIfAbsent(key, k -> new int[2]);
+            counts[0] += isStatus(entry.status(), "PRESENT") ? 1 : 0;
+            counts[1] += isStatus(entry.status(), "ABSENT") ? 1 : 0;
+            hours.merge(key, entry.hoursWorked() != null ? entry.hoursWorked() : 0.0, Double::sum);
+        }
+        days.forEach((key, counts) -> attendanceSummaryRepository.applyDelta(
+                key.getEmployeeId(), key.getPeriod(), counts[0], counts[1], hours.get(key)));
+    }
+
+    @Scheduled(cron = "${attendance.summary.reconcile-cron:0 30 2 * * *}")
+    public void reconcileRecentMonths() {
+        YearMonth current = YearMonth.now();
+        reconcile(current.minusMonths(Math.max(reconcileMonths, 1) - 1L), current);
+    }
+
+    public int reconcile(YearMonth from, YearMonth to) {
+        if (from == null || to == null) {
+            throw new InvalidInputException("Period range cannot be null");
+        }
+        if (from.isAfter(to)) {
+            throw new InvalidInputException("from", "must not be after " + to);
+        }
+
+        long startNanos = System.nanoTime();
+        int[] counts = RoutingDataSource.onBatchPool(() -> transactionTemplate.execute(status -> new int[] {
+                attendanceSummaryRepository.deleteByPeriodBetween(PayPeriod.toKey(from), PayPeriod.toKey(to)),
+                attendanceSummaryRepository.rebuildFromAttendance(PayPeriod.firstDay(from), PayPeriod.lastDay(to))
+        }));
+        logger.info("Reconciled attendance summaries {} to {}: {} rows cleared, {} rows rewritten in {} ms",
+                from, to, counts[0], counts[1], (System.nanoTime() - startNanos) / 1_000_000);
+        return counts[1];
+    }
+
+    @Transactional(readOnly = true)
+    public List<AttendanceMonthlySummary> getMonthlySummary(String month, Integer year) {
+        return attendanceSummaryRepository.findByPeriodOrderByEmployeeIdAsc(
+                PayPeriod.toKey(PayPeriod.parse(month, year)));
+    }
+
+    @Transactional(readOnly = true)
+    public List<AttendanceMonthlySummary> getEmployeeYearSummary(Long employeeId, Integer year) {
+        if (employeeId == null) {
+            throw new InvalidInputException("Employee ID cannot be null");
+        }
+        if (year == null) {
+            throw new InvalidInputException("Year cannot be null");
+        }
+
+        return attendanceSummaryRepository.findByEmployeeIdAndPeriodBetweenOrderByPeriodAsc(
+                employeeId, year * 100 + 1, year * 100 + 12);
+    }
+
+    private static boolean isStatus(String status, String expected) {
+        return status != null && expected.equalsIgnoreCase(status.trim());
+    }
+
+    public record AttendanceEntry(Long employeeId, LocalDate date, String status, Double hoursWorked) {
+    }
+}
@@ -0,0 +1,261 @@
+package com.employee.service;
+
+import com.employee.exception.InvalidInputException;
+import com.employee.exception.ResourceNotFoundException;
+import com.employee.model.AuditEvent;
+import com.employee.repository.AuditEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+public class AuditLogService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogService.class);
+
+    private final AuditEventRepository auditEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${audit.writer.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${audit.writer.batch-size:200}")
+    private int batchSize;
+
+    @Value("${audit.writer.flush-interval-ms:500}")
+    private long flushIntervalMillis;
+
+    @Value("${audit.writer.offer-timeout-ms:50}")
+    private long offerTimeoutMillis;
+
+    @Value("${audit.replay.safety-lag-ms:5000}")
+    private long replaySafetyLagMillis;
+
+    private BlockingQueue<PendingEvent> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    private Timer flushTimer;
+    private Counter queuedCounter;
+    private Counter writtenCounter;
+    private Counter directCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("audit.writer.queue.depth", queue, BlockingQueue::size)
+                .description("Audit events waiting to be written")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("audit.writer.flush")
+                .description("Time taken to write one batch of audit events")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        queuedCounter = eventCounter("queued");
+        writtenCounter = eventCounter("written");
+        directCounter = eventCounter("direct");
+        failedCounter = eventCounter("failed");
+
+        running = true;
+        writer = new Thread(this::runWriteLoop, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writer.join(flushIntervalMillis * 2 + 5_000);
+    }
+
+    public void record(String entityType, Long entityId, String action, Map<String, Change> changes) {
+        PendingEvent event = new PendingEvent(entityType, entityId, action, changes, LocalDateTime.now());
+        try {
+            if (running && queue.offer(event, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                queuedCounter.increment();
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writeDirect(event);
+    }
+
+    public static Map<String, Change> diff(Map<String, Object> before, Map<String, Object> after) {
+        Map<String, Change> changes = new LinkedHashMap<>();
+        before.forEach((field, from) -> {
+            Object to = after.get(field);
+            if (!Objects.equals(from, to)) {
+                changes.put(field, new Change(from, to));
+            }
+        });
+        return changes;
+    }
+
+    public static Map<String, Change> snapshot(Map<String, Object> values, boolean removed) {
+        Map<String, Change> changes = new LinkedHashMap<>();
+        values.forEach((field, value) ->
+                changes.put(field, removed ? new Change(value, null) : new Change(null, value)));
+        return changes;
+    }
+
+    public List<AuditEvent> getHistory(String entityType, Long entityId) {
+        if (entityType == null || entityType.trim().isEmpty()) {
+            throw new InvalidInputException("Entity type cannot be null or empty");
+        }
+        if (entityId == null) {
+            throw new InvalidInputException("Entity ID cannot be null");
+        }
+
+        return auditEventRepository.findByEntityTypeAndEntityIdOrderByRecordedAtAscAuditIdAsc(entityType, entityId);
+    }
+
+    public List<AuditEvent> readAfter(Long afterAuditId, int pageSize) {
+        if (pageSize <= 0) {
+            throw new InvalidInputException("pageSize", "must be greater than zero");
+        }
+
+        AuditEvent after = afterAuditId == null || afterAuditId <= 0 ? null
+                : auditEventRepository.findById(afterAuditId)
+                        .orElseThrow(() -> new ResourceNotFoundException("Audit event", "id", afterAuditId));
+        return readAfter(after, pageSize);
+    }
+
+    public long replay(Long afterAuditId, int pageSize, Consumer<AuditEvent> consumer) {
+        long replayed = 0;
+        List<AuditEvent> page = readAfter(afterAuditId, pageSize);
+
+        while (!page.isEmpty()) {
+            page.forEach(consumer);
+            replayed += page.size();
+            page = readAfter(page.get(page.size() - 1), pageSize);
+        }
+        return replayed;
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    private List<AuditEvent> readAfter(AuditEvent after, int pageSize) {
+        LocalDateTime horizon = LocalDateTime.now().minus(Duration.ofMillis(replaySafetyLagMillis));
+        PageRequest page = PageRequest.of(0, pageSize);
+        if (after == null) {
+            return auditEventRepository.findRecordedUpTo(horizon, page);
+        }
+        return auditEventRepository.findRecordedAfter(after.getRecordedAt(), after.getAuditId(), horizon, page);
+    }
+
+    private void runWriteLoop() {
+        List<PendingEvent> batch = new ArrayList<>(batchSize);
+        long flushDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                long waitNanos = flushDeadline - System.nanoTime();
+                PendingEvent event = running && waitNanos > 0 ? queue.poll(waitNanos, TimeUnit.NANOSECONDS) : null;
+                if (event != null) {
+                    batch.add(event);
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            }
+            queue.drainTo(batch, batchSize - batch.size());
+
+            if (batch.size() >= batchSize || System.nanoTime() >= flushDeadline || !running) {
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                    batch.clear();
+                }
+                flushDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+            }
+        }
+    }
+
+    private void flush(List<PendingEvent> batch) {
+        flushTimer.record(() -> {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        auditEventRepository.saveAll(batch.stream().map(this::toAuditEvent).toList()));
+                writtenCounter.increment(batch.size());
+            } catch (RuntimeException e) {
+                logger.warn("Writing {} audit events failed, retrying one by one: {}", batch.size(), e.getMessage());
+                batch.forEach(this::writeDirect);
+            }
+        });
+    }
+
+    private void writeDirect(PendingEvent event) {
+        try {
+            auditEventRepository.save(toAuditEvent(event));
+            directCounter.increment();
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            logger.error("Lost audit event {} {} {}: {}",
+                    event.entityType(), event.entityId(), event.action(), e.getMessage());
+        }
+    }
+
+    private AuditEvent toAuditEvent(PendingEvent event) {
+        AuditEvent auditEvent = new AuditEvent();
+        auditEvent.setEntityType(event.entityType());
+        auditEvent.setEntityId(event.entityId());
+        auditEvent.setAction(event.action());
+        auditEvent.setChanges(toJson(event.changes()));
+        auditEvent.setOccurredAt(event.occurredAt());
+        auditEvent.setRecordedAt(LocalDateTime.now());
+        return auditEvent;
+    }
+
+    private String toJson(Map<String, Change> changes) {
+        if (changes == null || changes.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(changes);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise audit changes", e);
+        }
+    }
+
+    private Counter eventCounter(String outcome) {
+        return Counter.builder("audit.writer.events")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    public record Change(Object from, Object to) {
+    }
+
+    private record PendingEvent(String entityType, Long entityId, String action, Map<String, Change> changes,
+                                LocalDateTime occurredAt) {
+    }
+}
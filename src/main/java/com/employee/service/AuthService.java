@@ -1,20 +1,75 @@
 package com.employee.service;
 
+import com.employee.config.MetricsConfig;
 import com.employee.exception.InvalidInputException;
 import com.employee.exception.ResourceNotFoundException;
+import com.employee.exception.ServiceUnavailableException;
 import com.employee.model.User;
 import com.employee.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
 @Service
 @RequiredArgsConstructor
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class AuthService {
 
     private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
     private final UserRepository userRepository;
+    private final PasswordVerificationService passwordVerificationService;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong deniedSampler = new AtomicLong();
+
+    @Value("${auth.role-cache.ttl-seconds:30}")
+    private long roleCacheTtlSeconds;
+
+    @Value("${auth.role-cache.maximum-size:10000}")
+    private long roleCacheMaximumSize;
+
+    @Value("${auth.authorization.deny-log-sample-rate:100}")
+    private long denyLogSampleRate;
+
+    private Cache<String, Optional<String>> roleCache;
+    private Counter allowedCounter;
+    private Counter deniedCounter;
+    private Counter unknownUserCounter;
+    private Counter loginSuccessCounter;
+    private Counter loginUnknownUserCounter;
+    private Counter loginBadPasswordCounter;
+    private Counter loginUnavailableCounter;
+
+    @PostConstruct
+    void init() {
+        roleCache = Caffeine.newBuilder()
+                .maximumSize(roleCacheMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(roleCacheTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, roleCache, "userRoles");
+
+        allowedCounter = decisionCounter("allowed");
+        deniedCounter = decisionCounter("denied");
+        unknownUserCounter = decisionCounter("unknown_user");
+
+        loginSuccessCounter = loginCounter("success", "none");
+        loginUnknownUserCounter = loginCounter("failure", "unknown_user");
+        loginBadPasswordCounter = loginCounter("failure", "bad_password");
+        loginUnavailableCounter = loginCounter("failure", "unavailable");
+    }
 
     public boolean validateCredentials(String username, String password) {
         try {
@@ -22,19 +77,27 @@ public class AuthService {
                     .orElse(null);
 
             if (user == null) {
+                loginUnknownUserCounter.increment();
                 logger.error("User not found: {}", username);
                 return false;
             }
 
-            boolean isValid = user.getPassword().equals(password);
+            boolean isValid = passwordVerificationService.matches(password, user.getPassword());
 
             if (isValid) {
-                logger.info("Credentials validated successfully for user: {}", username);
+                rehashIfNeeded(user, password);
+                loginSuccessCounter.increment();
+                logger.debug("Credentials validated successfully for user: {}", username);
             } else {
+                loginBadPasswordCounter.increment();
                 logger.error("Invalid password for user: {}", username);
             }
 
             return isValid;
+        } catch (ServiceUnavailableException e) {
+            loginUnavailableCounter.increment();
+            logger.error("Error validating credentials: {}", e.getMessage());
+            return false;
         } catch (Exception e) {
             logger.error("Error validating credentials: {}", e.getMessage());
             return false;
@@ -42,33 +105,64 @@ public class AuthService {
     }
 
     public User authenticateUser(String username, String password) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
+        User user = userRepository.findByUsername(username).orElse(null);
+        if (user == null) {
+            loginUnknownUserCounter.increment();
+            throw new ResourceNotFoundException("User", "username", username);
+        }
 
-        if (!user.getPassword().equals(password)) {
+        boolean matches;
+        try {
+            matches = passwordVerificationService.matches(password, user.getPassword());
+        } catch (ServiceUnavailableException e) {
+            loginUnavailableCounter.increment();
+            throw e;
+        }
+        if (!matches) {
+            loginBadPasswordCounter.increment();
             throw new InvalidInputException("Invalid credentials");
         }
+        rehashIfNeeded(user, password);
+        loginSuccessCounter.increment();
 
-        logger.info("User authenticated successfully: {}", username);
+        logger.debug("User authenticated successfully: {}", username);
         return user;
     }
 
+    private void rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordVerificationService.needsRehash(user.getPassword())) {
+            return;
+        }
+        try {
+            user.setPassword(passwordVerificationService.encode(rawPassword));
+            userRepository.save(user);
+            logger.info("Upgraded password hash for user: {}", user.getUsername());
+        } catch (RuntimeException e) {
+            logger.warn("Could not upgrade password hash for user {}: {}", user.getUsername(), e.getMessage());
+        }
+    }
+
     public boolean verifyUserAuthorization(String username, String requiredRole) {
+        if (username == null || requiredRole == null) {
+            return false;
+        }
+
         try {
-            User user = userRepository.findByUsername(username)
-                    .orElse(null);
+            Optional<String> role = roleCache.get(username, this::loadRole);
 
-            if (user == null) {
-                logger.error("User not found for authorization check: {}", username);
+            if (role.isEmpty()) {
+                unknownUserCounter.increment();
+                logSampled("User {} not found for authorization check on role: {}", username, requiredRole);
                 return false;
             }
 
-            boolean isAuthorized = user.getRole().equals(requiredRole);
+            boolean isAuthorized = role.get().equals(requiredRole);
 
             if (isAuthorized) {
-                logger.info("User {} authorized for role: {}", username, requiredRole);
+                allowedCounter.increment();
             } else {
-                logger.warn("User {} not authorized for role: {}", username, requiredRole);
+                deniedCounter.increment();
+                logSampled("User {} not authorized for role: {}", username, requiredRole);
             }
 
             return isAuthorized;
@@ -78,10 +172,57 @@ public class AuthService {
         }
     }
 
+    public User changeUserRole(String username, String role) {
+        if (role == null || role.trim().isEmpty()) {
+            throw new InvalidInputException("Role cannot be null or empty");
+        }
+
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
+        user.setRole(role);
+        User saved = userRepository.save(user);
+        evictUser(username);
+        logger.info("Role for user {} changed to {}", username, role);
+        return saved;
+    }
+
+    public void evictUser(String username) {
+        roleCache.invalidate(username);
+    }
+
+    public void evictAllUsers() {
+        roleCache.invalidateAll();
+    }
+
+    private Optional<String> loadRole(String username) {
+        return userRepository.findByUsername(username).map(User::getRole);
+    }
+
+    private void logSampled(String message, String username, String requiredRole) {
+        if (deniedSampler.getAndIncrement() % denyLogSampleRate == 0) {
+            logger.warn(message, username, requiredRole);
+        }
+    }
+
+    private Counter decisionCounter(String result) {
+        return Counter.builder("auth.authorization.decisions")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter loginCounter(String result, String reason) {
+        return Counter.builder("auth.logins")
+                .tag("result", result)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
     public String handleAuthenticationException(Exception e) {
         logger.error("Authentication exception occurred: {}", e.getMessage());
 
-        if (e.getMessage().contains("User not found")) {
+        if (e instanceof ServiceUnavailableException) {
+            return "Login service is busy. Please try again shortly.";
+        } else if (e.getMessage().contains("User not found")) {
             return "Invalid username. Please try again.";
         } else if (e.getMessage().contains("Invalid credentials")) {
             return "Invalid password. Please try again.";
@@ -0,0 +1,84 @@
+package com.employee.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+final class CsvRecordReader {
+
+    private final BufferedReader reader;
+    private long linesRead;
+    private long recordLine;
+    private String recordError;
+
+    CsvRecordReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    List<String> next() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        linesRead++;
+        recordLine = linesRead;
+        recordError = null;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStart = true;
+        int i = 0;
+
+        while (true) {
+            if (i == line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                line = reader.readLine();
+                if (line == null) {
+                    recordError = "unterminated quoted field starting on line " + recordLine;
+                    break;
+                }
+                linesRead++;
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c == '"' && i < line.length() && line.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+                fieldStart = false;
+                field.setLength(0);
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+            } else {
+                field.append(c);
+                fieldStart = fieldStart && c == ' ';
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    long getRecordLine() {
+        return recordLine;
+    }
+
+    String getRecordError() {
+        return recordError;
+    }
+}
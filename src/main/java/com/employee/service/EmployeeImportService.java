@@ -0,0 +1,361 @@
+package com.employee.service;
+
+import com.employee.config.CacheConfig;
+import com.employee.config.RoutingDataSource;
+import com.employee.dto.EmployeeImportSummary;
+import com.employee.dto.EmployeeRequest;
+import com.employee.dto.ImportRowError;
+import com.employee.event.EmployeeChangedEvent;
+import com.employee.exception.InvalidInputException;
+import com.employee.model.ContractEmployee;
+import com.employee.model.Employee;
+import com.employee.model.FullTimeEmployee;
+import com.employee.model.PartTimeEmployee;
+import com.employee.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class EmployeeImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeImportService.class);
+
+    private static final List<String> COLUMNS = List.of(
+            "externalRef", "employeeType", "name", "department", "salary", "roleType", "benefits",
+            "annualLeave", "hourlyRate", "hoursWorked", "contractDuration", "contractAmount");
+
+    private final EmployeeRepository employeeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final CacheManager cacheManager;
+    private final AuditLogService auditLogService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${employees.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${employees.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    public enum ImportFormat {
+        CSV, NDJSON;
+
+        public static ImportFormat of(String format) {
+            if (format == null || format.trim().isEmpty()) {
+                throw new InvalidInputException("Import format cannot be null or empty");
+            }
+            String normalized = format.trim().toUpperCase(Locale.ROOT);
+            if (normalized.equals("JSONL") || normalized.equals("JSON")) {
+                return NDJSON;
+            }
+            try {
+                return valueOf(normalized);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidInputException("format", "must be one of CSV, NDJSON but was " + format);
+            }
+        }
+
+        public static ImportFormat fromFileName(String fileName) {
+            int dot = fileName.lastIndexOf('.');
+            return of(dot >= 0 ? fileName.substring(dot + 1) : "");
+        }
+    }
+
+    public EmployeeImportSummary importEmployees(InputStream input, ImportFormat format) {
+        if (input == null) {
+            throw new InvalidInputException("Import input cannot be null");
+        }
+        if (format == null) {
+            throw new InvalidInputException("Import format cannot be null");
+        }
+
+        return RoutingDataSource.onBatchPool(() -> runImport(input, format));
+    }
+
+    private EmployeeImportSummary runImport(InputStream input, ImportFormat format) {
+        ImportRun run = new ImportRun();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            if (format == ImportFormat.CSV) {
+                readCsv(reader, run);
+            } else {
+                readNdjson(reader, run);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read employee import", e);
+        }
+        flush(run);
+
+        long elapsedMillis = (System.nanoTime() - run.startNanos) / 1_000_000;
+        double throughput = elapsedMillis > 0 ? run.rowsRead * 1000.0 / elapsedMillis : run.rowsRead;
+        logger.info("Employee import ({}) finished: {} rows, {} inserted, {} updated, {} failed in {} ms",
+                format, run.rowsRead, run.inserted, run.updated, run.failed, elapsedMillis);
+
+        return new EmployeeImportSummary(format.name(), run.rowsRead, run.inserted, run.updated, run.failed,
+                run.errors, run.failed > run.errors.size(), elapsedMillis, throughput);
+    }
+
+    private void readCsv(BufferedReader reader, ImportRun run) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            return;
+        }
+
+        Map<String, String> columnsByKey = new HashMap<>();
+        COLUMNS.forEach(column -> columnsByKey.put(columnKey(column), column));
+        List<String> columns = header.stream()
+                .map(name -> columnsByKey.get(columnKey(name.replace("\uFEFF", ""))))
+                .toList();
+
+        List<String> values;
+        while ((values = csv.next()) != null) {
+            long line = csv.getRecordLine();
+            if (values.size() == 1 && values.get(0).isBlank()) {
+                continue;
+            }
+            run.rowsRead++;
+            if (csv.getRecordError() != null) {
+                run.error(line, null, csv.getRecordError(), maxReportedErrors);
+                continue;
+            }
+            if (values.size() > columns.size()) {
+                run.error(line, null, "expected " + columns.size() + " columns but found " + values.size(),
+                        maxReportedErrors);
+                continue;
+            }
+
+            Map<String, String> fields = new LinkedHashMap<>();
+            for (int i = 0; i < values.size(); i++) {
+                String value = values.get(i).trim();
+                if (columns.get(i) != null && !value.isEmpty()) {
+                    fields.put(columns.get(i), value);
+                }
+            }
+            try {
+                accept(run, line, objectMapper.convertValue(fields, EmployeeRequest.class));
+            } catch (IllegalArgumentException e) {
+                run.error(line, fields.get("externalRef"), rootMessage(e), maxReportedErrors);
+            }
+        }
+    }
+
+    private void readNdjson(BufferedReader reader, ImportRun run) throws IOException {
+        ObjectReader requestReader = objectMapper.readerFor(EmployeeRequest.class);
+        long line = 0;
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            run.rowsRead++;
+            try {
+                EmployeeRequest request = requestReader.readValue(text);
+                if (request == null) {
+                    run.error(line, null, "expected a JSON object", maxReportedErrors);
+                    continue;
+                }
+                accept(run, line, request);
+            } catch (IOException e) {
+                run.error(line, null, rootMessage(e), maxReportedErrors);
+            }
+        }
+    }
+
+    private void accept(ImportRun run, long line, EmployeeRequest request) {
+        try {
+            if (request.getName() == null || request.getName().isBlank()) {
+                throw new InvalidInputException("name", "is required");
+            }
+            run.pending.add(new PendingRow(line, request.toEmployee()));
+        } catch (InvalidInputException e) {
+            run.error(line, request.getExternalRef(), e.getMessage(), maxReportedErrors);
+            return;
+        }
+        if (run.pending.size() >= batchSize) {
+            flush(run);
+        }
+    }
+
+    private void flush(ImportRun run) {
+        if (run.pending.isEmpty()) {
+            return;
+        }
+        List<PendingRow> batch = new ArrayList<>(run.pending);
+        run.pending.clear();
+
+        try {
+            apply(run, transactionTemplate.execute(status -> upsert(batch)));
+        } catch (RuntimeException e) {
+            logger.warn("Import batch ending on line {} failed, retrying row by row: {}",
+                    batch.get(batch.size() - 1).line(), rootMessage(e));
+            entityManager.clear();
+            for (PendingRow row : batch) {
+                row.employee().setEmployeeId(null);
+                try {
+                    apply(run, transactionTemplate.execute(status -> upsert(List.of(row))));
+                } catch (RuntimeException rowFailure) {
+                    run.error(row.line(), row.employee().getExternalRef(), rootMessage(rowFailure),
+                            maxReportedErrors);
+                }
+                entityManager.clear();
+            }
+        }
+        entityManager.clear();
+    }
+
+    private BatchResult upsert(List<PendingRow> rows) {
+        Set<String> refs = rows.stream()
+                .map(row -> row.employee().getExternalRef())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, Employee> byRef = refs.isEmpty()
+                ? new HashMap<>()
+                : employeeRepository.findByExternalRefIn(refs).stream()
+                        .collect(Collectors.toMap(Employee::getExternalRef, employee -> employee));
+
+        BatchResult result = new BatchResult();
+        List<Employee> inserts = new ArrayList<>();
+        for (PendingRow row : rows) {
+            Employee incoming = row.employee();
+            Employee current = incoming.getExternalRef() != null ? byRef.get(incoming.getExternalRef()) : null;
+
+            if (current == null) {
+                inserts.add(incoming);
+                if (incoming.getExternalRef() != null) {
+                    byRef.put(incoming.getExternalRef(), incoming);
+                }
+                result.inserted++;
+            } else if (current.getClass() != incoming.getClass()) {
+                result.errors.add(new ImportRowError(row.line(), incoming.getExternalRef(),
+                        "cannot change employee type from " + current.getEmployeeType()
+                                + " to " + incoming.getEmployeeType()));
+            } else {
+                Map<String, Object> before = current.getEmployeeId() != null
+                        ? EmployeeService.auditFields(current) : null;
+                copyFields(incoming, current);
+                if (before != null) {
+                    result.updated.add(new UpdatedEmployee(current.getEmployeeId(), before,
+                            EmployeeService.auditFields(current)));
+                }
+            }
+        }
+
+        employeeRepository.saveAll(inserts);
+        entityManager.flush();
+        inserts.forEach(employee -> result.changedIds.add(employee.getEmployeeId()));
+        return result;
+    }
+
+    private void apply(ImportRun run, BatchResult result) {
+        run.inserted += result.inserted;
+        run.updated += result.updated.size();
+        result.errors.forEach(error ->
+                run.error(error.getLine(), error.getExternalRef(), error.getMessage(), maxReportedErrors));
+
+        Cache cache = cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE);
+        for (UpdatedEmployee updated : result.updated) {
+            if (cache != null) {
+                cache.evict(updated.employeeId());
+            }
+            auditLogService.record("EMPLOYEE", updated.employeeId(), "IMPORT",
+                    AuditLogService.diff(updated.before(), updated.after()));
+            result.changedIds.add(updated.employeeId());
+        }
+        if (!result.changedIds.isEmpty()) {
+            eventPublisher.publishEvent(new EmployeeChangedEvent(result.changedIds));
+        }
+    }
+
+    private static void copyFields(Employee source, Employee target) {
+        target.setName(source.getName());
+        target.setDepartment(source.getDepartment());
+        target.setSalary(source.getSalary());
+        target.setRoleType(source.getRoleType());
+
+        if (source instanceof FullTimeEmployee from && target instanceof FullTimeEmployee to) {
+            to.setBenefits(from.getBenefits());
+            to.setAnnualLeave(from.getAnnualLeave());
+        } else if (source instanceof PartTimeEmployee from && target instanceof PartTimeEmployee to) {
+            to.setHourlyRate(from.getHourlyRate());
+            to.setHoursWorked(from.getHoursWorked());
+        } else if (source instanceof ContractEmployee from && target instanceof ContractEmployee to) {
+            to.setContractDuration(from.getContractDuration());
+            to.setContractAmount(from.getContractAmount());
+        }
+    }
+
+    private static String columnKey(String column) {
+        return column.trim().replace("_", "").replace("-", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        String message = root.getMessage() != null ? root.getMessage() : root.getClass().getSimpleName();
+        int newline = message.indexOf('\n');
+        return newline > 0 ? message.substring(0, newline) : message;
+    }
+
+    private static final class ImportRun {
+
+        private final long startNanos = System.nanoTime();
+        private final List<PendingRow> pending = new ArrayList<>();
+        private final List<ImportRowError> errors = new ArrayList<>();
+        private long rowsRead;
+        private long inserted;
+        private long updated;
+        private long failed;
+
+        void error(long line, String externalRef, String message, int maxReportedErrors) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportRowError(line, externalRef, message));
+            }
+        }
+    }
+
+    private static final class BatchResult {
+
+        private final List<UpdatedEmployee> updated = new ArrayList<>();
+        private final List<ImportRowError> errors = new ArrayList<>();
+        private final List<Long> changedIds = new ArrayList<>();
+        private int inserted;
+    }
+
+    private record PendingRow(long line, Employee employee) {
+    }
+
+    private record UpdatedEmployee(Long employeeId, Map<String, Object> before, Map<String, Object> after) {
+    }
+}
@@ -1,22 +1,53 @@
 package com.employee.service;
 
+import com.employee.config.CacheConfig;
+import com.employee.config.MetricsConfig;
+import com.employee.event.EmployeeChangedEvent;
 import com.employee.exception.InvalidInputException;
 import com.employee.exception.ResourceNotFoundException;
 import com.employee.model.Employee;
+import com.employee.repository.AttendanceRepository;
 import com.employee.repository.EmployeeRepository;
+import com.employee.repository.PayrollRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.BeanUtils;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class EmployeeService {
 
     private final EmployeeRepository employeeRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final PayrollRepository payrollRepository;
+    private final AuditLogService auditLogService;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
 
     public Employee addEmployee(Employee employee) {
-        return employeeRepository.save(employee);
+        Employee saved = employeeRepository.save(employee);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(List.of(saved.getEmployeeId())));
+        return saved;
     }
 
     public Employee viewEmployeeDetails(Long employeeId) {
@@ -24,14 +55,67 @@ public class EmployeeService {
             throw new InvalidInputException("Employee ID cannot be null");
         }
 
-        return employeeRepository.findById(employeeId)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee", "ID", employeeId));
+        Cache cache = cacheManager.getCache(CacheConfig.EMPLOYEES_CACHE);
+        Employee employee = cache != null ? cache.get(employeeId, Employee.class) : null;
+        if (employee == null) {
+            employee = employeeRepository.findById(employeeId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Employee", "ID", employeeId));
+            if (cache != null) {
+                cache.put(employeeId, employee);
+            }
+        }
+        return copyOf(employee);
     }
 
     public List<Employee> viewAllEmployees() {
         return employeeRepository.findAll();
     }
 
+    public Page<Employee> viewEmployees(Pageable pageable) {
+        if (pageable == null) {
+            throw new InvalidInputException("Page request cannot be null");
+        }
+
+        return employeeRepository.findAll(pageable);
+    }
+
+    public List<Employee> viewEmployeesAfter(Long lastEmployeeId, int pageSize) {
+        if (pageSize <= 0) {
+            throw new InvalidInputException("pageSize", "must be greater than zero");
+        }
+
+        return employeeRepository.findByEmployeeIdGreaterThanOrderByEmployeeIdAsc(
+                lastEmployeeId != null ? lastEmployeeId : 0L, PageRequest.of(0, pageSize));
+    }
+
+    public void forEachEmployeePage(int pageSize, Consumer<List<Employee>> pageConsumer) {
+        Long lastEmployeeId = 0L;
+        List<Employee> page = viewEmployeesAfter(lastEmployeeId, pageSize);
+
+        while (!page.isEmpty()) {
+            pageConsumer.accept(page);
+            lastEmployeeId = page.get(page.size() - 1).getEmployeeId();
+            page = viewEmployeesAfter(lastEmployeeId, pageSize);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long exportEmployees(Consumer<Employee> consumer) {
+        long exported = 0;
+
+        try (Stream<Employee> employees = employeeRepository.streamAllOrderedById()) {
+            Iterator<Employee> iterator = employees.iterator();
+            while (iterator.hasNext()) {
+                Employee employee = iterator.next();
+                consumer.accept(employee);
+                entityManager.detach(employee);
+                exported++;
+            }
+        }
+        return exported;
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#employeeId", condition = "#employeeId != null")
     public Employee updateEmployee(Long employeeId, Employee updatedEmployee) {
         if (employeeId == null) {
             throw new InvalidInputException("Employee ID cannot be null");
@@ -40,25 +124,39 @@ public class EmployeeService {
             throw new InvalidInputException("Updated employee data cannot be null");
         }
 
-        Employee existing = viewEmployeeDetails(employeeId);
+        Employee existing = employeeRepository.findById(employeeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee", "ID", employeeId));
+        Map<String, Object> before = auditFields(existing);
 
         existing.setName(updatedEmployee.getName());
         existing.setDepartment(updatedEmployee.getDepartment());
         existing.setSalary(updatedEmployee.getSalary());
         existing.setRoleType(updatedEmployee.getRoleType());
 
-        return employeeRepository.save(existing);
+        Employee saved = employeeRepository.save(existing);
+        auditLogService.record("EMPLOYEE", employeeId, "UPDATE",
+                AuditLogService.diff(before, auditFields(saved)));
+        eventPublisher.publishEvent(new EmployeeChangedEvent(List.of(employeeId)));
+        return saved;
     }
 
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES_CACHE, key = "#employeeId", condition = "#employeeId != null")
     public void deleteEmployee(Long employeeId) {
         if (employeeId == null) {
             throw new InvalidInputException("Employee ID cannot be null");
         }
 
-        if (!employeeRepository.existsById(employeeId)) {
-            throw new ResourceNotFoundException("Employee", "ID", employeeId);
+        Employee existing = employeeRepository.findById(employeeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee", "ID", employeeId));
+        if (attendanceRepository.existsByEmployeeEmployeeId(employeeId)
+                || payrollRepository.existsByEmployeeEmployeeId(employeeId)) {
+            throw new DataIntegrityViolationException(
+                    "Employee " + employeeId + " still has attendance or payroll records");
         }
-        employeeRepository.deleteById(employeeId);
+        employeeRepository.delete(existing);
+        auditLogService.record("EMPLOYEE", employeeId, "DELETE",
+                AuditLogService.snapshot(auditFields(existing), true));
+        eventPublisher.publishEvent(new EmployeeChangedEvent(List.of(employeeId)));
     }
 
     public List<Employee> findByDepartment(String department) {
@@ -68,4 +166,20 @@ public class EmployeeService {
 
         return employeeRepository.findByDepartment(department);
     }
+
+    static Map<String, Object> auditFields(Employee employee) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("employeeType", employee.getEmployeeType());
+        fields.put("name", employee.getName());
+        fields.put("department", employee.getDepartment());
+        fields.put("salary", employee.getSalary());
+        fields.put("roleType", employee.getRoleType());
+        return fields;
+    }
+
+    private static Employee copyOf(Employee employee) {
+        Employee copy = BeanUtils.instantiateClass(employee.getClass());
+        BeanUtils.copyProperties(employee, copy);
+        return copy;
+    }
 }
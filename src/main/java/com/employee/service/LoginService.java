@@ -28,7 +28,7 @@ public class LoginService {
     public boolean login(String username, String password) {
         try {
             User user = processLogin(username, password);
-            logger.info("Login successful for user: {}", user.getUsername());
+            logger.debug("Login successful for user: {}", user.getUsername());
             return true;
         } catch (Exception e) {
             String errorMessage = authService.handleAuthenticationException(e);
@@ -0,0 +1,223 @@
+package com.employee.service;
+
+import com.employee.config.DataSourceConfig;
+import com.employee.model.PayPeriod;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+@Service
+@RequiredArgsConstructor
+public class PartitionMaintenanceService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PartitionMaintenanceService.class);
+
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final String MAXVALUE = "MAXVALUE";
+
+    private static final List<String> ATTENDANCE_COLUMNS = List.of("attendance_id", "employee_id",
+            "attendance_date", "status", "check_in_time", "check_out_time", "hours_worked", "created_at");
+    private static final List<String> PAYROLL_COLUMNS = List.of("payroll_id", "employee_id", "month", "year",
+            "period", "basic_salary", "allowances", "deductions", "net_salary", "payment_date", "status",
+            "created_at");
+
+    @Qualifier(DataSourceConfig.BATCH_JDBC_TEMPLATE)
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${partitions.maintenance.enabled:true}")
+    private boolean enabled;
+
+    @Value("${partitions.maintenance.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${partitions.attendance.retention-months:24}")
+    private int attendanceRetentionMonths;
+
+    @Value("${partitions.payroll.retention-months:84}")
+    private int payrollRetentionMonths;
+
+    private volatile Boolean supported;
+
+    @Scheduled(initialDelayString = "${partitions.maintenance.initial-delay-ms:60000}",
+            fixedDelayString = "${partitions.maintenance.interval-ms:21600000}")
+    public void maintain() {
+        if (!enabled || !isSupported()) {
+            return;
+        }
+        for (PartitionedTable table : tables()) {
+            try {
+                archiveColdPartitions(table);
+                ensureFuturePartitions(table);
+            } catch (DataAccessException e) {
+                logger.error("Partition maintenance of {} failed: {}", table.name(), e.getMessage());
+            }
+        }
+    }
+
+    public List<PartitionedTable> tables() {
+        return List.of(
+                new PartitionedTable("attendance", "attendance_archive", ATTENDANCE_COLUMNS, Granularity.MONTH_DATE,
+                        attendanceRetentionMonths),
+                new PartitionedTable("payroll", "payroll_archive", PAYROLL_COLUMNS, Granularity.MONTH_KEY,
+                        payrollRetentionMonths));
+    }
+
+    public int archiveColdPartitions(PartitionedTable table) {
+        YearMonth horizon = YearMonth.now().minusMonths(table.retentionMonths());
+        int archived = 0;
+
+        for (Partition partition : partitions(table)) {
+            if (partition.upperBound() == null || partition.upperBound().isAfter(horizon)) {
+                break;
+            }
+            long startNanos = System.nanoTime();
+            int copied = jdbcTemplate.execute(
+                    (ConnectionCallback<Integer>) connection -> copyPartition(connection, table, partition));
+            jdbcTemplate.execute("ALTER TABLE " + table.name() + " DROP PARTITION " + partition.name());
+            archived++;
+            logger.info("Archived partition {}.{} ({} rows) into {} in {} ms", table.name(), partition.name(),
+                    copied, table.archiveTable(), (System.nanoTime() - startNanos) / 1_000_000);
+        }
+        return archived;
+    }
+
+    public int ensureFuturePartitions(PartitionedTable table) {
+        List<Partition> partitions = partitions(table);
+        if (partitions.isEmpty()) {
+            return 0;
+        }
+
+        YearMonth lastBound = null;
+        for (Partition partition : partitions) {
+            if (partition.upperBound() != null) {
+                lastBound = partition.upperBound();
+            }
+        }
+        YearMonth target = YearMonth.now().plusMonths(monthsAhead);
+        YearMonth lower = lastBound != null ? lastBound : YearMonth.now().minusMonths(table.retentionMonths());
+
+        List<String> definitions = new ArrayList<>();
+        while (!lower.isAfter(target)) {
+            YearMonth upper = lower.plusMonths(1);
+            definitions.add("PARTITION " + String.format("p%04d%02d", lower.getYear(), lower.getMonthValue())
+                    + " VALUES LESS THAN (" + table.granularity().literal(upper) + ")");
+            lower = upper;
+        }
+        if (definitions.isEmpty()) {
+            return 0;
+        }
+
+        definitions.add("PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (" + MAXVALUE + ")");
+        jdbcTemplate.execute("ALTER TABLE " + table.name() + " REORGANIZE PARTITION " + FUTURE_PARTITION
+                + " INTO (" + String.join(", ", definitions) + ")");
+        logger.info("Added {} partitions to {} up to {}", definitions.size() - 1, table.name(), lower);
+        return definitions.size() - 1;
+    }
+
+    public List<Partition> partitions(PartitionedTable table) {
+        return jdbcTemplate.query("SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS"
+                        + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL"
+                        + " ORDER BY PARTITION_ORDINAL_POSITION",
+                (rs, rowNum) -> new Partition(rs.getString(1),
+                        table.granularity().parseBound(rs.getString(2))),
+                table.name());
+    }
+
+    private int copyPartition(Connection connection, PartitionedTable table, Partition partition)
+            throws SQLException {
+        String source = table.name() + " PARTITION (" + partition.name() + ")";
+        String columns = String.join(", ", table.columns());
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            long expected;
+            try (ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + source)) {
+                rs.next();
+                expected = rs.getLong(1);
+            }
+            int copied = statement.executeUpdate("INSERT INTO " + table.archiveTable() + " (" + columns + ")"
+                    + " SELECT " + columns + " FROM " + source);
+            if (copied != expected) {
+                throw new DataIntegrityViolationException("Archiving " + table.name() + "." + partition.name()
+                        + " copied " + copied + " of " + expected + " rows; partition kept");
+            }
+            connection.commit();
+            return copied;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private boolean isSupported() {
+        if (supported == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            supported = product != null && product.toLowerCase(Locale.ROOT).contains("mysql");
+            if (!supported) {
+                logger.info("Partition maintenance disabled: {} is not MySQL", product);
+            }
+        }
+        return supported;
+    }
+
+    public enum Granularity {
+        MONTH_DATE {
+            @Override
+            YearMonth parse(String description) {
+                return YearMonth.from(LocalDate.parse(description.replace("'", "").trim()));
+            }
+
+            @Override
+            String literal(YearMonth bound) {
+                return "'" + bound.atDay(1) + "'";
+            }
+        },
+        MONTH_KEY {
+            @Override
+            YearMonth parse(String description) {
+                return PayPeriod.fromKey(Integer.parseInt(description.trim()));
+            }
+
+            @Override
+            String literal(YearMonth bound) {
+                return Integer.toString(PayPeriod.toKey(bound));
+            }
+        };
+
+        abstract YearMonth parse(String description);
+
+        abstract String literal(YearMonth bound);
+
+        YearMonth parseBound(String description) {
+            return description == null || MAXVALUE.equalsIgnoreCase(description.trim()) ? null : parse(description);
+        }
+    }
+
+    public record PartitionedTable(String name, String archiveTable, List<String> columns, Granularity granularity,
+                                   int retentionMonths) {
+    }
+
+    public record Partition(String name, YearMonth upperBound) {
+    }
+}
@@ -0,0 +1,295 @@
+package com.employee.service;
+
+import com.employee.config.DataSourceConfig;
+import com.employee.config.MetricsConfig;
+import com.employee.dto.DepartmentPayrollStats;
+import com.employee.dto.PayrollAnalyticsReport;
+import com.employee.event.PayrollPeriodChangedEvent;
+import com.employee.exception.InvalidInputException;
+import com.employee.model.Money;
+import com.employee.model.PayPeriod;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+@Service
+@RequiredArgsConstructor
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class PayrollAnalyticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayrollAnalyticsService.class);
+
+    public static final String ALL_TYPES = "ALL";
+    private static final String UNASSIGNED = "UNASSIGNED";
+    private static final String DEPARTMENT = "COALESCE(e.department, '" + UNASSIGNED + "')";
+
+    private static final String AGGREGATE_QUERY = "SELECT " + DEPARTMENT + ", e.employee_type, COUNT(*),"
+            + " COALESCE(SUM(p.basic_salary), 0) * 100, COALESCE(SUM(p.allowances), 0) * 100,"
+            + " COALESCE(SUM(p.deductions), 0) * 100, COALESCE(SUM(p.net_salary), 0) * 100,"
+            + " COALESCE(MIN(p.basic_salary), 0) * 100, COALESCE(MAX(p.basic_salary), 0) * 100"
+            + " FROM payroll p JOIN employees e ON e.employee_id = p.employee_id"
+            + " WHERE p.period = ? GROUP BY " + DEPARTMENT + ", e.employee_type";
+
+    private static final String VALUES_QUERY = "SELECT " + DEPARTMENT + ", e.employee_type, p.basic_salary * 100"
+            + " FROM payroll p JOIN employees e ON e.employee_id = p.employee_id"
+            + " WHERE p.period = ? AND p.basic_salary IS NOT NULL";
+
+    private static final int MAX_PERIODS = 120;
+
+    @Qualifier(DataSourceConfig.BATCH_JDBC_TEMPLATE)
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${payroll.analytics.cache.maximum-size:240}")
+    private long cacheMaximumSize;
+
+    @Value("${payroll.analytics.cache.ttl-minutes:360}")
+    private long cacheTtlMinutes;
+
+    @Value("${payroll.analytics.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${payroll.analytics.split-threshold:20000}")
+    private int splitThreshold;
+
+    private Cache<Integer, PayrollAnalyticsReport> reportCache;
+
+    @PostConstruct
+    void init() {
+        reportCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(Duration.ofMinutes(cacheTtlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, reportCache, "payrollAnalytics");
+    }
+
+    public PayrollAnalyticsReport getPeriodAnalytics(String month, Integer year) {
+        return getPeriodAnalytics(PayPeriod.parse(month, year));
+    }
+
+    public PayrollAnalyticsReport getPeriodAnalytics(YearMonth period) {
+        if (period == null) {
+            throw new InvalidInputException("Analytics period cannot be null");
+        }
+        return reportCache.get(PayPeriod.toKey(period), this::computeReport);
+    }
+
+    public List<PayrollAnalyticsReport> getPeriodRangeAnalytics(YearMonth from, YearMonth to) {
+        if (from == null || to == null) {
+            throw new InvalidInputException("Analytics period range cannot be null");
+        }
+        if (from.isAfter(to)) {
+            throw new InvalidInputException("from", "must not be after " + to);
+        }
+        if (from.plusMonths(MAX_PERIODS).isBefore(to.plusMonths(1))) {
+            throw new InvalidInputException("to", "range cannot span more than " + MAX_PERIODS + " periods");
+        }
+
+        List<PayrollAnalyticsReport> reports = new ArrayList<>();
+        for (YearMonth period = from; !period.isAfter(to); period = period.plusMonths(1)) {
+            reports.add(getPeriodAnalytics(period));
+        }
+        return reports;
+    }
+
+    @EventListener
+    public void onPayrollPeriodChanged(PayrollPeriodChangedEvent event) {
+        reportCache.invalidate(event.period());
+        logger.debug("Invalidated payroll analytics for period {}", event.period());
+    }
+
+    private PayrollAnalyticsReport computeReport(Integer period) {
+        long startNanos = System.nanoTime();
+
+        Map<String, Map<String, GroupTotals>> totals = new TreeMap<>();
+        jdbcTemplate.query(AGGREGATE_QUERY, rs -> {
+            totals.computeIfAbsent(rs.getString(1), department -> new TreeMap<>())
+                    .put(rs.getString(2), new GroupTotals(rs.getLong(3), rs.getLong(4), rs.getLong(5),
+                            rs.getLong(6), rs.getLong(7), rs.getLong(8), rs.getLong(9)));
+        }, period);
+
+        Map<String, DepartmentColumns> columnsByDepartment = new TreeMap<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(VALUES_QUERY,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setInt(1, period);
+            return statement;
+        }, rs -> {
+            columnsByDepartment.computeIfAbsent(rs.getString(1), department -> new DepartmentColumns())
+                    .column(rs.getString(2))
+                    .add(rs.getLong(3));
+        });
+
+        DepartmentColumns[] departments = columnsByDepartment.values().toArray(new DepartmentColumns[0]);
+        if (departments.length > 0) {
+            ForkJoinPool.commonPool().invoke(new PercentileTask(departments, 0, departments.length, splitThreshold));
+        }
+
+        List<DepartmentPayrollStats> rows = new ArrayList<>();
+        long headcount = 0;
+        long totalNet = 0;
+        for (Map.Entry<String, Map<String, GroupTotals>> department : totals.entrySet()) {
+            DepartmentColumns columns = columnsByDepartment.get(department.getKey());
+            GroupTotals departmentTotals = null;
+            for (GroupTotals typeTotals : department.getValue().values()) {
+                departmentTotals = departmentTotals == null ? typeTotals : departmentTotals.plus(typeTotals);
+            }
+            rows.add(toStats(department.getKey(), ALL_TYPES, departmentTotals,
+                    columns != null ? columns.allPercentiles : null));
+            for (Map.Entry<String, GroupTotals> type : department.getValue().entrySet()) {
+                LongColumn column = columns != null ? columns.types.get(type.getKey()) : null;
+                rows.add(toStats(department.getKey(), type.getKey(), type.getValue(),
+                        column != null ? column.percentiles : null));
+            }
+            headcount += departmentTotals.headcount();
+            totalNet = Math.addExact(totalNet, departmentTotals.net());
+        }
+
+        logger.info("Computed payroll analytics for {}: {} departments, {} payrolls in {} ms", period,
+                totals.size(), headcount, (System.nanoTime() - startNanos) / 1_000_000);
+        return new PayrollAnalyticsReport(period, headcount, Money.ofMinor(totalNet), rows, LocalDateTime.now());
+    }
+
+    private static DepartmentPayrollStats toStats(String department, String employeeType, GroupTotals totals,
+                                                  long[] percentiles) {
+        long mean = totals.headcount() > 0 ? Money.divideRounded(totals.basic(), totals.headcount()) : 0;
+        return new DepartmentPayrollStats(department, employeeType, totals.headcount(),
+                Money.ofMinor(totals.basic()), Money.ofMinor(totals.allowances()), Money.ofMinor(totals.deductions()),
+                Money.ofMinor(totals.net()), Money.ofMinor(mean), Money.ofMinor(totals.min()),
+                Money.ofMinor(totals.max()), percentile(percentiles, 0), percentile(percentiles, 1),
+                percentile(percentiles, 2));
+    }
+
+    private static Money percentile(long[] percentiles, int index) {
+        return Money.ofMinor(percentiles == null ? 0 : percentiles[index]);
+    }
+
+    private record GroupTotals(long headcount, long basic, long allowances, long deductions, long net,
+                               long min, long max) {
+
+        GroupTotals plus(GroupTotals other) {
+            return new GroupTotals(headcount + other.headcount, Math.addExact(basic, other.basic),
+                    Math.addExact(allowances, other.allowances), Math.addExact(deductions, other.deductions),
+                    Math.addExact(net, other.net), Math.min(min, other.min), Math.max(max, other.max));
+        }
+    }
+
+    private static final class DepartmentColumns {
+
+        private final Map<String, LongColumn> types = new TreeMap<>();
+        private long[] allPercentiles;
+
+        private LongColumn column(String employeeType) {
+            return types.computeIfAbsent(employeeType, type -> new LongColumn());
+        }
+
+        private int size() {
+            int size = 0;
+            for (LongColumn column : types.values()) {
+                size += column.size;
+            }
+            return size;
+        }
+
+        private void computePercentiles() {
+            long[] all = new long[size()];
+            int offset = 0;
+            for (LongColumn column : types.values()) {
+                Arrays.sort(column.values, 0, column.size);
+                column.percentiles = percentiles(column.values, column.size);
+                System.arraycopy(column.values, 0, all, offset, column.size);
+                offset += column.size;
+            }
+            Arrays.sort(all);
+            allPercentiles = percentiles(all, all.length);
+        }
+
+        private static long[] percentiles(long[] sorted, int size) {
+            if (size == 0) {
+                return null;
+            }
+            return new long[]{rank(sorted, size, 50), rank(sorted, size, 90), rank(sorted, size, 99)};
+        }
+
+        private static long rank(long[] sorted, int size, int percentile) {
+            int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+            return sorted[Math.max(0, Math.min(size - 1, index))];
+        }
+    }
+
+    private static final class LongColumn {
+
+        private long[] values = new long[64];
+        private int size;
+        private long[] percentiles;
+
+        private void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size + (size >> 1));
+            }
+            values[size++] = value;
+        }
+    }
+
+    private static final class PercentileTask extends RecursiveAction {
+
+        private final DepartmentColumns[] departments;
+        private final int from;
+        private final int to;
+        private final int splitThreshold;
+
+        private PercentileTask(DepartmentColumns[] departments, int from, int to, int splitThreshold) {
+            this.departments = departments;
+            this.from = from;
+            this.to = to;
+            this.splitThreshold = splitThreshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1 && size() > splitThreshold) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new PercentileTask(departments, from, middle, splitThreshold),
+                        new PercentileTask(departments, middle, to, splitThreshold));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                departments[i].computePercentiles();
+            }
+        }
+
+        private long size() {
+            long size = 0;
+            for (int i = from; i < to; i++) {
+                size += departments[i].size();
+            }
+            return size;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.employee.service;
+
+import com.employee.dto.PayrollExportStatus;
+import com.employee.dto.PayrollExportStatus.State;
+import com.employee.dto.PayrollExportSummary;
+import com.employee.exception.InvalidInputException;
+import com.employee.exception.ResourceNotFoundException;
+import com.employee.exception.ServiceUnavailableException;
+import com.employee.model.PayPeriod;
+import com.employee.service.PayrollExportService.ExportFormat;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+@RequiredArgsConstructor
+public class PayrollExportJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayrollExportJobService.class);
+
+    private final PayrollExportService payrollExportService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${payroll.export.workers:1}")
+    private int workers;
+
+    @Value("${payroll.export.queue-capacity:16}")
+    private int queueCapacity;
+
+    @Value("${payroll.export.retention-minutes:1440}")
+    private long retentionMinutes;
+
+    private ThreadPoolExecutor executor;
+    private Cache<String, PayrollExportStatus> exports;
+    private final Map<String, String> activeExports = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "payroll-export-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        exports = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(retentionMinutes))
+                .build();
+
+        Gauge.builder("payroll.export.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Payroll exports waiting for a worker")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    public PayrollExportStatus submit(String month, Integer year, String format, boolean gzip) {
+        YearMonth period = PayPeriod.parse(month, year);
+        ExportFormat exportFormat = ExportFormat.of(format);
+        String exportKey = PayPeriod.toKey(period) + "-" + exportFormat + (gzip ? "-gz" : "");
+
+        String exportId = UUID.randomUUID().toString();
+        LocalDateTime submittedAt = LocalDateTime.now();
+        String activeExportId = activeExports.computeIfAbsent(exportKey, key -> {
+            exports.put(exportId, status(exportId, period, exportFormat, gzip, State.QUEUED, submittedAt, null,
+                    null, null));
+            return exportId;
+        });
+        if (!activeExportId.equals(exportId)) {
+            return getExport(activeExportId);
+        }
+
+        try {
+            executor.execute(() -> execute(exportId, exportKey, period, exportFormat, gzip, submittedAt));
+        } catch (RejectedExecutionException e) {
+            activeExports.remove(exportKey, exportId);
+            exports.invalidate(exportId);
+            throw new ServiceUnavailableException("Too many payroll exports queued, please retry later");
+        }
+        logger.info("Queued payroll export {} for {} ({})", exportId, period, exportFormat);
+        return getExport(exportId);
+    }
+
+    public PayrollExportStatus getExport(String exportId) {
+        if (exportId == null || exportId.isBlank()) {
+            throw new InvalidInputException("Export ID cannot be empty");
+        }
+        PayrollExportStatus export = exports.getIfPresent(exportId);
+        if (export == null) {
+            throw new ResourceNotFoundException("Payroll export", "id", exportId);
+        }
+        return export;
+    }
+
+    public Path getExportFile(String exportId) {
+        PayrollExportStatus export = getExport(exportId);
+        if (export.getState() != State.SUCCEEDED) {
+            throw new DataIntegrityViolationException(
+                    "Payroll export " + exportId + " is " + export.getState() + ", not SUCCEEDED");
+        }
+        Path file = Path.of(export.getSummary().getFile());
+        if (!Files.isReadable(file)) {
+            throw new ResourceNotFoundException("Payroll export file", "id", exportId);
+        }
+        return file;
+    }
+
+    private void execute(String exportId, String exportKey, YearMonth period, ExportFormat format, boolean gzip,
+                         LocalDateTime submittedAt) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        exports.put(exportId, status(exportId, period, format, gzip, State.RUNNING, submittedAt, startedAt,
+                null, null));
+        try {
+            PayrollExportSummary summary = payrollExportService.exportPeriod(period, format, gzip);
+            exports.put(exportId, status(exportId, period, format, gzip, State.SUCCEEDED, submittedAt, startedAt,
+                    summary, null));
+        } catch (RuntimeException e) {
+            logger.error("Payroll export {} for {} failed", exportId, period, e);
+            exports.put(exportId, status(exportId, period, format, gzip, State.FAILED, submittedAt, startedAt,
+                    null, e.getMessage()));
+        } finally {
+            activeExports.remove(exportKey, exportId);
+        }
+    }
+
+    private static PayrollExportStatus status(String exportId, YearMonth period, ExportFormat format, boolean gzip,
+                                              State state, LocalDateTime submittedAt, LocalDateTime startedAt,
+                                              PayrollExportSummary summary, String error) {
+        return new PayrollExportStatus(exportId, PayPeriod.monthName(period), period.getYear(), format.name(), gzip,
+                state, submittedAt, startedAt,
+                state == State.SUCCEEDED || state == State.FAILED ? LocalDateTime.now() : null, summary, error);
+    }
+}
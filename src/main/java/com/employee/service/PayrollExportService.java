@@ -0,0 +1,379 @@
+package com.employee.service;
+
+import com.employee.config.DataSourceConfig;
+import com.employee.config.MetricsConfig;
+import com.employee.dto.PayrollExportSummary;
+import com.employee.exception.InvalidInputException;
+import com.employee.model.Money;
+import com.employee.model.PayPeriod;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+@RequiredArgsConstructor
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class PayrollExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayrollExportService.class);
+
+    private static final String EXPORT_QUERY = "SELECT p.payroll_id, p.employee_id, e.external_ref, e.name,"
+            + " e.department, p.period, p.month, p.year, p.basic_salary, p.allowances, p.deductions,"
+            + " p.net_salary, p.payment_date, p.status"
+            + " FROM payroll p JOIN employees e ON e.employee_id = p.employee_id"
+            + " WHERE p.period = ? ORDER BY p.employee_id";
+
+    private static final String CSV_HEADER = "payrollId,employeeId,externalRef,name,department,period,month,year,"
+            + "basicSalary,allowances,deductions,netSalary,paymentDate,status";
+
+    private static final DateTimeFormatter BANK_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final int BANK_RECORD_LENGTH = 100;
+
+    @Qualifier(DataSourceConfig.BATCH_JDBC_TEMPLATE)
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${payroll.export.directory:exports}")
+    private String directory;
+
+    @Value("${payroll.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${payroll.export.buffer-size:65536}")
+    private int bufferSize;
+
+    public enum ExportFormat {
+        CSV, BANK;
+
+        public static ExportFormat of(String format) {
+            if (format == null || format.trim().isEmpty()) {
+                return CSV;
+            }
+            String normalized = format.trim().toUpperCase(Locale.ROOT);
+            if (normalized.equals("FIXED_WIDTH") || normalized.equals("FIXED-WIDTH")) {
+                return BANK;
+            }
+            try {
+                return valueOf(normalized);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidInputException("format", "must be one of CSV, BANK but was " + format);
+            }
+        }
+    }
+
+    public PayrollExportSummary exportPeriod(String month, Integer year, ExportFormat format, boolean gzip) {
+        return exportPeriod(PayPeriod.parse(month, year), format, gzip);
+    }
+
+    public PayrollExportSummary exportPeriod(YearMonth period, ExportFormat format, boolean gzip) {
+        if (period == null) {
+            throw new InvalidInputException("Export period cannot be null");
+        }
+        if (format == null) {
+            throw new InvalidInputException("Export format cannot be null");
+        }
+
+        int periodKey = PayPeriod.toKey(period);
+        String fileName = "payroll-" + periodKey + "-" + format.name().toLowerCase(Locale.ROOT)
+                + (format == ExportFormat.BANK ? ".txt" : ".csv") + (gzip ? ".gz" : "");
+        long startNanos = System.nanoTime();
+
+        Path target;
+        Path partial;
+        try {
+            Path exportDirectory = Files.createDirectories(Path.of(directory));
+            target = exportDirectory.resolve(fileName);
+            partial = Files.createTempFile(exportDirectory, fileName, ".part");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not prepare payroll export directory " + directory, e);
+        }
+
+        ExportRun run = new ExportRun(format, periodKey);
+        try {
+            try (ExportWriter writer = new ExportWriter(partial, gzip, bufferSize,
+                    format == ExportFormat.BANK ? StandardCharsets.US_ASCII.newEncoder()
+                            : StandardCharsets.UTF_8.newEncoder())) {
+                run.writer = writer;
+                run.header();
+                jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(EXPORT_QUERY,
+                            ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(fetchSize);
+                    statement.setInt(1, periodKey);
+                    return statement;
+                }, run);
+                run.trailer();
+            }
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deleteQuietly(partial);
+            throw new UncheckedIOException("Could not write payroll export " + fileName, e);
+        } catch (RuntimeException e) {
+            deleteQuietly(partial);
+            throw e;
+        }
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        long bytes = run.writer.getBytesWritten();
+        double rowsPerSecond = elapsedMillis > 0 ? run.rows * 1000.0 / elapsedMillis : run.rows;
+        double bytesPerSecond = elapsedMillis > 0 ? bytes * 1000.0 / elapsedMillis : bytes;
+        logger.info("Payroll export {} ({}) finished: {} rows, {} skipped, {} bytes in {} ms",
+                fileName, format, run.rows, run.skipped, bytes, elapsedMillis);
+
+        return new PayrollExportSummary(format.name(), periodKey, target.toAbsolutePath().toString(), gzip,
+                run.rows, run.skipped, Money.ofMinor(run.totalMinorUnits), bytes, elapsedMillis,
+                rowsPerSecond, bytesPerSecond);
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Could not delete partial export {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static final class ExportRun implements RowCallbackHandler {
+
+        private final ExportFormat format;
+        private final int periodKey;
+        private final StringBuilder line = new StringBuilder(256);
+        private ExportWriter writer;
+        private long rows;
+        private long skipped;
+        private long totalMinorUnits;
+
+        private ExportRun(ExportFormat format, int periodKey) {
+            this.format = format;
+            this.periodKey = periodKey;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            BigDecimal netSalary = rs.getBigDecimal("net_salary");
+            long netMinorUnits = netSalary == null ? 0 : Money.toMinorUnits(netSalary);
+
+            if (format == ExportFormat.BANK) {
+                if (netMinorUnits <= 0) {
+                    skipped++;
+                    return;
+                }
+                Date paymentDate = rs.getDate("payment_date");
+                line.append('D');
+                padLeft(rs.getLong("employee_id"), 10);
+                padRight(rs.getString("external_ref"), 20);
+                padRight(rs.getString("name"), 40);
+                padLeft(netMinorUnits, 15);
+                padRight(paymentDate == null ? "" : BANK_DATE.format(paymentDate.toLocalDate()), 8);
+                padLeft(periodKey, 6);
+            } else {
+                line.append(rs.getLong("payroll_id")).append(',')
+                        .append(rs.getLong("employee_id")).append(',');
+                appendCsv(rs.getString("external_ref"));
+                line.append(',');
+                appendCsv(rs.getString("name"));
+                line.append(',');
+                appendCsv(rs.getString("department"));
+                line.append(',').append(rs.getInt("period")).append(',');
+                appendCsv(rs.getString("month"));
+                line.append(',').append(rs.getInt("year")).append(',');
+                appendDecimal(rs.getBigDecimal("basic_salary"));
+                line.append(',');
+                appendDecimal(rs.getBigDecimal("allowances"));
+                line.append(',');
+                appendDecimal(rs.getBigDecimal("deductions"));
+                line.append(',');
+                appendDecimal(netSalary);
+                line.append(',');
+                Date paymentDate = rs.getDate("payment_date");
+                if (paymentDate != null) {
+                    line.append(paymentDate.toLocalDate());
+                }
+                line.append(',');
+                appendCsv(rs.getString("status"));
+            }
+
+            rows++;
+            totalMinorUnits += netMinorUnits;
+            writeLine();
+        }
+
+        private void header() {
+            if (format == ExportFormat.BANK) {
+                line.append('H');
+                padLeft(periodKey, 6);
+                line.append(BANK_DATE.format(LocalDate.now()));
+            } else {
+                line.append(CSV_HEADER);
+            }
+            writeLine();
+        }
+
+        private void trailer() {
+            if (format == ExportFormat.BANK) {
+                line.append('T');
+                padLeft(rows, 10);
+                padLeft(totalMinorUnits, 18);
+                writeLine();
+            }
+        }
+
+        private void writeLine() {
+            if (format == ExportFormat.BANK) {
+                while (line.length() < BANK_RECORD_LENGTH) {
+                    line.append(' ');
+                }
+            }
+            line.append('\n');
+            try {
+                writer.write(line);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            line.setLength(0);
+        }
+
+        private void appendCsv(String value) {
+            if (value == null) {
+                return;
+            }
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                line.append(value);
+                return;
+            }
+            line.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    line.append('"');
+                }
+                line.append(c);
+            }
+            line.append('"');
+        }
+
+        private void appendDecimal(BigDecimal value) {
+            if (value != null) {
+                line.append(value.toPlainString());
+            }
+        }
+
+        private void padLeft(long value, int width) {
+            String digits = Long.toString(value);
+            for (int i = digits.length(); i < width; i++) {
+                line.append('0');
+            }
+            line.append(digits, Math.max(0, digits.length() - width), digits.length());
+        }
+
+        private void padRight(String value, int width) {
+            int length = value == null ? 0 : Math.min(value.length(), width);
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                line.append(c < 0x20 || c > 0x7E ? '?' : Character.toUpperCase(c));
+            }
+            for (int i = length; i < width; i++) {
+                line.append(' ');
+            }
+        }
+    }
+
+    private static final class ExportWriter implements Closeable {
+
+        private final FileChannel channel;
+        private final GZIPOutputStream gzip;
+        private final ByteBuffer buffer;
+        private final CharsetEncoder encoder;
+        private long bytesWritten;
+
+        private ExportWriter(Path path, boolean compress, int bufferSize, CharsetEncoder encoder) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            this.gzip = compress ? new GZIPOutputStream(Channels.newOutputStream(channel), bufferSize) : null;
+            this.buffer = compress ? ByteBuffer.allocate(bufferSize) : ByteBuffer.allocateDirect(bufferSize);
+            this.encoder = encoder.onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        private void write(CharSequence text) throws IOException {
+            CharBuffer chars = CharBuffer.wrap(text);
+            while (true) {
+                CoderResult result = encoder.encode(chars, buffer, true);
+                if (result.isOverflow()) {
+                    drain();
+                } else if (result.isError()) {
+                    result.throwException();
+                } else {
+                    break;
+                }
+            }
+            encoder.reset();
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            if (gzip != null) {
+                gzip.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            } else {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            buffer.clear();
+        }
+
+        private long getBytesWritten() {
+            return bytesWritten;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                drain();
+                if (gzip != null) {
+                    gzip.finish();
+                    gzip.flush();
+                }
+                channel.force(false);
+                bytesWritten = channel.size();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.employee.service;
+
+import com.employee.dto.PayrollRunStatus;
+import com.employee.dto.PayrollRunStatus.State;
+import com.employee.dto.PayrollRunSummary;
+import com.employee.exception.InvalidInputException;
+import com.employee.exception.ResourceNotFoundException;
+import com.employee.exception.ServiceUnavailableException;
+import com.employee.model.PayPeriod;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+@RequiredArgsConstructor
+public class PayrollRunService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayrollRunService.class);
+
+    private final PayrollService payrollService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${payroll.run.workers:1}")
+    private int workers;
+
+    @Value("${payroll.run.queue-capacity:16}")
+    private int queueCapacity;
+
+    @Value("${payroll.run.retention-minutes:1440}")
+    private long retentionMinutes;
+
+    private ThreadPoolExecutor executor;
+    private Cache<String, PayrollRunStatus> runs;
+    private final Map<Integer, String> activeRuns = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "payroll-run-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        runs = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(retentionMinutes))
+                .build();
+
+        Gauge.builder("payroll.run.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Payroll runs waiting for a worker")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    public PayrollRunStatus submit(String month, Integer year) {
+        YearMonth period = PayPeriod.parse(month, year);
+        int periodKey = PayPeriod.toKey(period);
+
+        String runId = UUID.randomUUID().toString();
+        LocalDateTime submittedAt = LocalDateTime.now();
+        String activeRunId = activeRuns.computeIfAbsent(periodKey, key -> {
+            runs.put(runId, status(runId, period, State.QUEUED, submittedAt, null, null, null));
+            return runId;
+        });
+        if (!activeRunId.equals(runId)) {
+            return getRun(activeRunId);
+        }
+
+        try {
+            executor.execute(() -> execute(runId, period, submittedAt));
+        } catch (RejectedExecutionException e) {
+            activeRuns.remove(periodKey, runId);
+            runs.invalidate(runId);
+            throw new ServiceUnavailableException("Too many payroll runs queued, please retry later");
+        }
+        logger.info("Queued payroll run {} for {}", runId, period);
+        return getRun(runId);
+    }
+
+    public PayrollRunStatus getRun(String runId) {
+        if (runId == null || runId.isBlank()) {
+            throw new InvalidInputException("Run ID cannot be empty");
+        }
+        PayrollRunStatus run = runs.getIfPresent(runId);
+        if (run == null) {
+            throw new ResourceNotFoundException("Payroll run", "id", runId);
+        }
+        return run;
+    }
+
+    private void execute(String runId, YearMonth period, LocalDateTime submittedAt) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        runs.put(runId, status(runId, period, State.RUNNING, submittedAt, startedAt, null, null));
+        try {
+            PayrollRunSummary summary = payrollService.runPayroll(PayPeriod.monthName(period), period.getYear());
+            runs.put(runId, status(runId, period, State.SUCCEEDED, submittedAt, startedAt, summary, null));
+        } catch (RuntimeException e) {
+            logger.error("Payroll run {} for {} failed", runId, period, e);
+            runs.put(runId, status(runId, period, State.FAILED, submittedAt, startedAt, null, e.getMessage()));
+        } finally {
+            activeRuns.remove(PayPeriod.toKey(period), runId);
+        }
+    }
+
+    private static PayrollRunStatus status(String runId, YearMonth period, State state, LocalDateTime submittedAt,
+                                           LocalDateTime startedAt, PayrollRunSummary summary, String error) {
+        return new PayrollRunStatus(runId, PayPeriod.monthName(period), period.getYear(), state, submittedAt,
+                startedAt, state == State.SUCCEEDED || state == State.FAILED ? LocalDateTime.now() : null,
+                summary, error);
+    }
+}
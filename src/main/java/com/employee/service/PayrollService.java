@@ -1,34 +1,76 @@
 package com.employee.service;
 
+import com.employee.config.MetricsConfig;
+import com.employee.config.RoutingDataSource;
+import com.employee.dto.EmployeeHours;
+import com.employee.dto.PayrollReportRow;
+import com.employee.dto.PayrollRunSummary;
+import com.employee.event.PayrollPeriodChangedEvent;
 import com.employee.exception.InvalidInputException;
-import com.employee.exception.ResourceNotFoundException;
 import com.employee.interfaces.PayrollOperations;
 import com.employee.model.Employee;
+import com.employee.model.Money;
+import com.employee.model.PartTimeEmployee;
+import com.employee.model.PayPeriod;
 import com.employee.model.Payroll;
+import com.employee.repository.AttendanceRepository;
 import com.employee.repository.EmployeeRepository;
 import com.employee.repository.PayrollRepository;
+import com.employee.rules.PayrollCalculation;
+import com.employee.rules.PayrollRulesEngine;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class PayrollService implements PayrollOperations {
 
+    private static final Logger logger = LoggerFactory.getLogger(PayrollService.class);
+
     private final EmployeeRepository employeeRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final EmployeeService employeeService;
     private final PayrollRepository payrollRepository;
+    private final PayrollRulesEngine payrollRulesEngine;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final AuditLogService auditLogService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${payroll.run.chunk-size:500}")
+    private int chunkSize;
 
     @Override
-    public Double calculateSalary(Long employeeId) {
+    public Money calculateSalary(Long employeeId) {
         if (employeeId == null) {
             throw new InvalidInputException("Employee ID cannot be null");
         }
 
-        Employee employee = employeeRepository.findById(employeeId)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee", "ID", employeeId));
-        return employee.calculateSalary();
+        Employee employee = employeeService.viewEmployeeDetails(employeeId);
+        YearMonth period = YearMonth.now();
+        return evaluate(employee, periodHours(employee, period)).getBasicSalary();
     }
 
     @Override
@@ -36,55 +78,173 @@ public class PayrollService implements PayrollOperations {
         if (employeeId == null) {
             throw new InvalidInputException("Employee ID cannot be null");
         }
-        if (month == null || month.trim().isEmpty()) {
-            throw new InvalidInputException("Month cannot be null or empty");
+        YearMonth period = PayPeriod.parse(month, year);
+
+        Employee employee = employeeService.viewEmployeeDetails(employeeId);
+        if (payrollRepository.findByEmployeeEmployeeIdAndPeriod(employeeId, PayPeriod.toKey(period)).isPresent()) {
+            throw new DataIntegrityViolationException(
+                    "Payroll for employee " + employeeId + " in " + period + " already exists");
         }
-        if (year == null) {
-            throw new InvalidInputException("Year cannot be null");
+
+        Payroll payroll = payrollRepository.save(
+                buildPayroll(employee, period, LocalDate.now(), periodHours(employee, period)));
+        auditPayroll(payroll);
+        eventPublisher.publishEvent(new PayrollPeriodChangedEvent(payroll.getPeriod()));
+        return payroll;
+    }
+
+    public PayrollRunSummary runPayroll(String month, Integer year) {
+        YearMonth period = PayPeriod.parse(month, year);
+        return RoutingDataSource.onBatchPool(() -> runPayroll(period));
+    }
+
+    private PayrollRunSummary runPayroll(YearMonth period) {
+        long startNanos = System.nanoTime();
+        LocalDate paymentDate = LocalDate.now();
+        Set<Long> alreadyProcessed = payrollRepository.findEmployeeIdsByPeriod(PayPeriod.toKey(period));
+        Map<Long, BigDecimal> partTimeHours = partTimeHours(period);
+
+        long scanned = 0;
+        long created = 0;
+        long skipped = 0;
+        long failures = 0;
+        Long lastEmployeeId = 0L;
+
+        while (true) {
+            List<Employee> chunk = employeeRepository.findByEmployeeIdGreaterThanOrderByEmployeeIdAsc(
+                    lastEmployeeId, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            lastEmployeeId = chunk.get(chunk.size() - 1).getEmployeeId();
+            scanned += chunk.size();
+
+            List<Employee> pending = chunk.stream()
+                    .filter(employee -> !alreadyProcessed.contains(employee.getEmployeeId()))
+                    .toList();
+            skipped += chunk.size() - pending.size();
+
+            List<Payroll> payrolls = pending.parallelStream()
+                    .map(employee -> tryBuildPayroll(employee, period, paymentDate,
+                            partTimeHours.getOrDefault(employee.getEmployeeId(), BigDecimal.ZERO)))
+                    .filter(Objects::nonNull)
+                    .toList();
+            failures += pending.size() - payrolls.size();
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    payrollRepository.saveAll(payrolls);
+                    entityManager.flush();
+                });
+                created += payrolls.size();
+                payrolls.forEach(this::auditPayroll);
+            } catch (DataAccessException e) {
+                logger.error("Payroll run {} failed for chunk ending at employee {}: {}",
+                        period, lastEmployeeId, e.getMessage());
+                failures += payrolls.size();
+            }
+            entityManager.clear();
+        }
+
+        if (created > 0) {
+            eventPublisher.publishEvent(new PayrollPeriodChangedEvent(PayPeriod.toKey(period)));
         }
 
-        Employee employee = employeeRepository.findById(employeeId)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee", "ID", employeeId));
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        double throughput = elapsedMillis > 0 ? scanned * 1000.0 / elapsedMillis : scanned;
+        logger.info("Payroll run {} finished: {} scanned, {} created, {} skipped, {} failed in {} ms",
+                period, scanned, created, skipped, failures, elapsedMillis);
 
-        Double basicSalary = employee.calculateSalary();
-        Double allowances = 2000.0;
-        Double deductions = 500.0;
-        Double netSalary = basicSalary + allowances - deductions;
+        return new PayrollRunSummary(PayPeriod.monthName(period), period.getYear(), scanned, created, skipped, failures, elapsedMillis, throughput);
+    }
+
+    private Payroll tryBuildPayroll(Employee employee, YearMonth period, LocalDate paymentDate,
+                                    BigDecimal hoursWorked) {
+        try {
+            return buildPayroll(employee, period, paymentDate, hoursWorked);
+        } catch (RuntimeException e) {
+            logger.warn("Skipping payroll for employee {}: {}", employee.getEmployeeId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private Payroll buildPayroll(Employee employee, YearMonth period, LocalDate paymentDate,
+                                 BigDecimal hoursWorked) {
+        PayrollCalculation calculation = evaluate(employee, hoursWorked);
 
         Payroll payroll = new Payroll();
         payroll.setEmployee(employee);
-        payroll.setMonth(month);
-        payroll.setYear(year);
-        payroll.setBasicSalary(basicSalary);
-        payroll.setAllowances(allowances);
-        payroll.setDeductions(deductions);
-        payroll.setNetSalary(netSalary);
-        payroll.setPaymentDate(LocalDate.now());
+        payroll.setMonth(PayPeriod.monthName(period));
+        payroll.setYear(period.getYear());
+        payroll.setPeriod(PayPeriod.toKey(period));
+        payroll.setBasicSalary(calculation.getBasicSalary());
+        payroll.setAllowances(calculation.getAllowances());
+        payroll.setDeductions(calculation.getDeductions());
+        payroll.setNetSalary(calculation.getNetSalary());
+        payroll.setPaymentDate(paymentDate);
         payroll.setStatus("PROCESSED");
+        return payroll;
+    }
+
+    private void auditPayroll(Payroll payroll) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("employeeId", payroll.getEmployeeId());
+        fields.put("period", payroll.getPeriod());
+        fields.put("basicSalary", payroll.getBasicSalary());
+        fields.put("allowances", payroll.getAllowances());
+        fields.put("deductions", payroll.getDeductions());
+        fields.put("netSalary", payroll.getNetSalary());
+        auditLogService.record("PAYROLL", payroll.getPayrollId(), "GENERATE", AuditLogService.snapshot(fields, false));
+    }
+
+    private PayrollCalculation evaluate(Employee employee, BigDecimal hoursWorked) {
+        if (employee instanceof PartTimeEmployee partTime) {
+            return payrollRulesEngine.evaluate(employee, partTime.calculateBasePay(hoursWorked), hoursWorked);
+        }
+        return payrollRulesEngine.evaluate(employee, employee.calculateBasePay(), null);
+    }
+
+    private Map<Long, BigDecimal> partTimeHours(YearMonth period) {
+        Map<Long, BigDecimal> hours = new HashMap<>();
+        for (EmployeeHours row : attendanceRepository.sumPartTimeHoursBetween(
+                PayPeriod.firstDay(period), PayPeriod.lastDay(period))) {
+            hours.put(row.getEmployeeId(), toHours(row.getHoursWorked()));
+        }
+        return hours;
+    }
 
-        return payrollRepository.save(payroll);
+    private BigDecimal periodHours(Employee employee, YearMonth period) {
+        if (!(employee instanceof PartTimeEmployee)) {
+            return null;
+        }
+        return toHours(attendanceRepository.sumHoursWorked(
+                employee.getEmployeeId(), PayPeriod.firstDay(period), PayPeriod.lastDay(period)));
+    }
+
+    private static BigDecimal toHours(Double hours) {
+        return hours == null ? BigDecimal.ZERO : BigDecimal.valueOf(hours).setScale(2, RoundingMode.HALF_EVEN);
     }
 
     @Override
-    public Double handleDeductions(Double salary, Double deductions) {
+    public Money handleDeductions(Money salary, Money deductions) {
         if (salary == null) {
             throw new InvalidInputException("Salary cannot be null");
         }
         if (deductions == null) {
             throw new InvalidInputException("Deductions cannot be null");
         }
-        return salary - deductions;
+        return salary.minus(deductions);
     }
 
     @Override
-    public Double handleAllowances(Double salary, Double allowances) {
+    public Money handleAllowances(Money salary, Money allowances) {
         if (salary == null) {
             throw new InvalidInputException("Salary cannot be null");
         }
         if (allowances == null) {
             throw new InvalidInputException("Allowances cannot be null");
         }
-        return salary + allowances;
+        return salary.plus(allowances);
     }
 
     public List<Payroll> getEmployeePayrollHistory(Long employeeId) {
@@ -92,10 +252,22 @@ public class PayrollService implements PayrollOperations {
             throw new InvalidInputException("Employee ID cannot be null");
         }
 
-        return payrollRepository.findByEmployeeEmployeeId(employeeId);
+        return payrollRepository.findByEmployeeEmployeeIdOrderByPeriodAsc(employeeId);
     }
 
-    public List<Payroll> getPayrollByMonth(String month, Integer year) {
-        return payrollRepository.findByMonthAndYear(month, year);
+    public List<PayrollReportRow> getPayrollByMonth(String month, Integer year) {
+        int period = PayPeriod.toKey(PayPeriod.parse(month, year));
+        return payrollRepository.findReportRowsByPeriodBetween(period, period);
+    }
+
+    public List<PayrollReportRow> getPayrollByPeriodRange(YearMonth from, YearMonth to) {
+        if (from == null || to == null) {
+            throw new InvalidInputException("Period range cannot be null");
+        }
+        if (from.isAfter(to)) {
+            throw new InvalidInputException("from", "must not be after " + to);
+        }
+
+        return payrollRepository.findReportRowsByPeriodBetween(PayPeriod.toKey(from), PayPeriod.toKey(to));
     }
 }
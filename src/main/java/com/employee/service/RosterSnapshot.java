@@ -0,0 +1,177 @@
+package com.employee.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class RosterSnapshot {
+
+    private static final int NO_CODE = -1;
+
+    private long[] ids;
+    private long[] salaries;
+    private int[] departmentCodes;
+    private byte[] typeCodes;
+    private int size;
+
+    private final BitSet live = new BitSet();
+    private final Map<Long, Integer> rowsById = new HashMap<>();
+    private final Dictionary departments = new Dictionary();
+    private final Dictionary types = new Dictionary();
+
+    RosterSnapshot(int capacity) {
+        int initial = Math.max(16, capacity);
+        ids = new long[initial];
+        salaries = new long[initial];
+        departmentCodes = new int[initial];
+        typeCodes = new byte[initial];
+    }
+
+    void upsert(long employeeId, String department, String employeeType, long salaryMinorUnits) {
+        Integer previous = rowsById.get(employeeId);
+        if (previous != null) {
+            live.clear(previous);
+        }
+        if (size == ids.length) {
+            grow();
+        }
+
+        int row = size++;
+        ids[row] = employeeId;
+        salaries[row] = salaryMinorUnits;
+        departmentCodes[row] = departments.index(department, row);
+        typeCodes[row] = (byte) types.index(employeeType, row);
+        live.set(row);
+        rowsById.put(employeeId, row);
+    }
+
+    boolean remove(long employeeId) {
+        Integer row = rowsById.remove(employeeId);
+        if (row == null) {
+            return false;
+        }
+        live.clear(row);
+        return true;
+    }
+
+    int liveRows() {
+        return rowsById.size();
+    }
+
+    int tombstones() {
+        return size - rowsById.size();
+    }
+
+    RosterSnapshot compact() {
+        RosterSnapshot compacted = new RosterSnapshot(liveRows());
+        for (int row = live.nextSetBit(0); row >= 0; row = live.nextSetBit(row + 1)) {
+            compacted.upsert(ids[row], departments.value(departmentCodes[row]), types.value(typeCodes[row]),
+                    salaries[row]);
+        }
+        return compacted;
+    }
+
+    long count(String department, String employeeType, long minSalary, long maxSalary) {
+        BitSet candidates = candidates(department, employeeType);
+        if (minSalary == Long.MIN_VALUE && maxSalary == Long.MAX_VALUE) {
+            return candidates.cardinality();
+        }
+        long count = 0;
+        for (int row = candidates.nextSetBit(0); row >= 0; row = candidates.nextSetBit(row + 1)) {
+            long salary = salaries[row];
+            if (salary >= minSalary && salary <= maxSalary) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    List<Long> ids(String department, String employeeType, long minSalary, long maxSalary, int limit) {
+        BitSet candidates = candidates(department, employeeType);
+        List<Long> result = new ArrayList<>(Math.min(limit, candidates.cardinality()));
+        for (int row = candidates.nextSetBit(0); row >= 0 && result.size() < limit;
+             row = candidates.nextSetBit(row + 1)) {
+            long salary = salaries[row];
+            if (salary >= minSalary && salary <= maxSalary) {
+                result.add(ids[row]);
+            }
+        }
+        return result;
+    }
+
+    Aggregate aggregate(String department, String employeeType, long minSalary, long maxSalary) {
+        BitSet candidates = candidates(department, employeeType);
+        long count = 0;
+        long total = 0;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int row = candidates.nextSetBit(0); row >= 0; row = candidates.nextSetBit(row + 1)) {
+            long salary = salaries[row];
+            if (salary >= minSalary && salary <= maxSalary) {
+                count++;
+                total += salary;
+                min = Math.min(min, salary);
+                max = Math.max(max, salary);
+            }
+        }
+        return new Aggregate(count, total, count > 0 ? min : 0, count > 0 ? max : 0);
+    }
+
+    private BitSet candidates(String department, String employeeType) {
+        BitSet candidates = (BitSet) live.clone();
+        if (department != null && !department.isEmpty()) {
+            candidates.and(departments.bitmap(department));
+        }
+        if (employeeType != null && !employeeType.isEmpty()) {
+            candidates.and(types.bitmap(employeeType));
+        }
+        return candidates;
+    }
+
+    private void grow() {
+        int capacity = ids.length + (ids.length >> 1);
+        ids = Arrays.copyOf(ids, capacity);
+        salaries = Arrays.copyOf(salaries, capacity);
+        departmentCodes = Arrays.copyOf(departmentCodes, capacity);
+        typeCodes = Arrays.copyOf(typeCodes, capacity);
+    }
+
+    record Aggregate(long count, long total, long min, long max) {
+    }
+
+    private static final class Dictionary {
+
+        private static final BitSet EMPTY = new BitSet();
+
+        private final List<String> values = new ArrayList<>();
+        private final List<BitSet> bitmaps = new ArrayList<>();
+        private final Map<String, Integer> codes = new HashMap<>();
+
+        private int index(String value, int row) {
+            if (value == null) {
+                return NO_CODE;
+            }
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = values.size();
+                values.add(value);
+                bitmaps.add(new BitSet());
+                codes.put(value, code);
+            }
+            bitmaps.get(code).set(row);
+            return code;
+        }
+
+        private String value(int code) {
+            return code == NO_CODE ? null : values.get(code);
+        }
+
+        private BitSet bitmap(String value) {
+            Integer code = codes.get(value);
+            return code == null ? EMPTY : bitmaps.get(code);
+        }
+    }
+}
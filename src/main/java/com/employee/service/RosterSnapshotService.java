@@ -0,0 +1,221 @@
+package com.employee.service;
+
+import com.employee.dto.RosterFilter;
+import com.employee.dto.RosterStats;
+import com.employee.event.EmployeeChangedEvent;
+import com.employee.exception.InvalidInputException;
+import com.employee.exception.ServiceUnavailableException;
+import com.employee.model.Employee;
+import com.employee.model.Money;
+import com.employee.repository.EmployeeRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "roster.snapshot.enabled", havingValue = "true")
+public class RosterSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RosterSnapshotService.class);
+
+    private final EmployeeRepository employeeRepository;
+    private final MeterRegistry meterRegistry;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock patchLock = new ReentrantLock();
+
+    @Value("${roster.snapshot.page-size:1000}")
+    private int pageSize;
+
+    @Value("${roster.snapshot.compact-ratio:0.25}")
+    private double compactRatio;
+
+    private RosterSnapshot snapshot;
+    private Set<Long> changedDuringRebuild;
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("roster.snapshot.rows", this, service -> service.rows(RosterSnapshot::liveRows))
+                .tag("state", "live")
+                .register(meterRegistry);
+        Gauge.builder("roster.snapshot.rows", this, service -> service.rows(RosterSnapshot::tombstones))
+                .tag("state", "tombstoned")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${roster.snapshot.initial-delay-ms:0}",
+            fixedDelayString = "${roster.snapshot.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        long startNanos = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        RosterSnapshot rebuilt = new RosterSnapshot(pageSize);
+        Set<Long> changed;
+        try {
+            Long lastEmployeeId = 0L;
+            List<Employee> page = employeeRepository.findByEmployeeIdGreaterThanOrderByEmployeeIdAsc(
+                    lastEmployeeId, PageRequest.of(0, pageSize));
+            while (!page.isEmpty()) {
+                page.forEach(employee -> upsert(rebuilt, employee));
+                lastEmployeeId = page.get(page.size() - 1).getEmployeeId();
+                page = employeeRepository.findByEmployeeIdGreaterThanOrderByEmployeeIdAsc(
+                        lastEmployeeId, PageRequest.of(0, pageSize));
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changed = changedDuringRebuild;
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        patchLock.lock();
+        try {
+            List<Employee> changedEmployees = changed.isEmpty() ? List.of() : employeeRepository.findAllById(changed);
+            lock.writeLock().lock();
+            try {
+                snapshot = rebuilt;
+                apply(changed, changedEmployees);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            patchLock.unlock();
+        }
+        logger.info("Rebuilt roster snapshot with {} employees in {} ms", rebuilt.liveRows(),
+                (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.employeeIds() == null || event.employeeIds().isEmpty()) {
+            return;
+        }
+        patchLock.lock();
+        try {
+            List<Employee> employees = employeeRepository.findAllById(event.employeeIds());
+            lock.writeLock().lock();
+            try {
+                if (changedDuringRebuild != null) {
+                    changedDuringRebuild.addAll(event.employeeIds());
+                }
+                if (snapshot != null) {
+                    apply(event.employeeIds(), employees);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            patchLock.unlock();
+        }
+    }
+
+    public long count(RosterFilter filter) {
+        Query query = query(filter);
+        return read(current -> current.count(query.department(), query.employeeType(),
+                query.minSalary(), query.maxSalary()));
+    }
+
+    public List<Long> findEmployeeIds(RosterFilter filter, int limit) {
+        if (limit <= 0) {
+            throw new InvalidInputException("limit", "must be greater than zero");
+        }
+        Query query = query(filter);
+        return read(current -> current.ids(query.department(), query.employeeType(),
+                query.minSalary(), query.maxSalary(), limit));
+    }
+
+    public RosterStats stats(RosterFilter filter) {
+        Query query = query(filter);
+        RosterSnapshot.Aggregate aggregate = read(current -> current.aggregate(query.department(),
+                query.employeeType(), query.minSalary(), query.maxSalary()));
+
+        Money total = Money.ofMinor(aggregate.total());
+        return new RosterStats(aggregate.count(), total,
+                aggregate.count() > 0 ? total.divide(aggregate.count()) : Money.zero(),
+                Money.ofMinor(aggregate.min()), Money.ofMinor(aggregate.max()));
+    }
+
+    private <T> T read(Function<RosterSnapshot, T> reader) {
+        lock.readLock().lock();
+        try {
+            if (snapshot == null) {
+                throw new ServiceUnavailableException("Roster snapshot is still loading");
+            }
+            return reader.apply(snapshot);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int rows(Function<RosterSnapshot, Integer> counter) {
+        lock.readLock().lock();
+        try {
+            return snapshot == null ? 0 : counter.apply(snapshot);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Iterable<Long> employeeIds, List<Employee> employees) {
+        for (Long employeeId : employeeIds) {
+            snapshot.remove(employeeId);
+        }
+        employees.forEach(employee -> upsert(snapshot, employee));
+
+        if (snapshot.tombstones() > compactRatio * Math.max(1, snapshot.liveRows())) {
+            snapshot = snapshot.compact();
+        }
+    }
+
+    private static void upsert(RosterSnapshot target, Employee employee) {
+        Money salary = employee.getSalary();
+        target.upsert(employee.getEmployeeId(), employee.getDepartment(), employee.getEmployeeType(),
+                salary != null ? salary.getMinorUnits() : 0L);
+    }
+
+    private static Query query(RosterFilter filter) {
+        if (filter == null) {
+            return new Query(null, null, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+        String employeeType = filter.getEmployeeType() != null
+                ? filter.getEmployeeType().trim().toUpperCase(Locale.ROOT).replace('-', '_')
+                : null;
+        return new Query(filter.getDepartment(), employeeType,
+                minorUnits(filter.getMinSalary(), Long.MIN_VALUE), minorUnits(filter.getMaxSalary(), Long.MAX_VALUE));
+    }
+
+    private static long minorUnits(BigDecimal amount, long unbounded) {
+        return amount != null ? Money.of(amount).getMinorUnits() : unbounded;
+    }
+
+    private record Query(String department, String employeeType, long minSalary, long maxSalary) {
+    }
+}
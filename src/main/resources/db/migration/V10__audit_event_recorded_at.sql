@@ -0,0 +1,10 @@
+-- recorded_at is stamped by the audit writer just before the insert. Replay pages by
+-- (recorded_at, audit_id): pooled sequence ids are not handed out in commit order.
+
+ALTER TABLE audit_event ADD COLUMN recorded_at DATETIME(6);
+
+UPDATE audit_event SET recorded_at = occurred_at WHERE recorded_at IS NULL;
+
+ALTER TABLE audit_event
+    MODIFY recorded_at DATETIME(6) NOT NULL,
+    ADD INDEX idx_audit_event_recorded (recorded_at, audit_id);
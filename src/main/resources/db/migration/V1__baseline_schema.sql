@@ -0,0 +1,59 @@
+-- Schema as originally generated by Hibernate (IDENTITY ids).
+-- Existing databases are baselined at this version and skip this script.
+
+CREATE TABLE IF NOT EXISTS employees (
+    employee_id       BIGINT       NOT NULL AUTO_INCREMENT,
+    employee_type     VARCHAR(31)  NOT NULL,
+    name              VARCHAR(255),
+    department        VARCHAR(255),
+    salary            FLOAT(53),
+    role_type         VARCHAR(255),
+    created_at        DATETIME(6),
+    updated_at        DATETIME(6),
+    benefits          VARCHAR(255),
+    annual_leave      INTEGER,
+    hourly_rate       FLOAT(53),
+    hours_worked      INTEGER,
+    contract_duration INTEGER,
+    contract_amount   FLOAT(53),
+    PRIMARY KEY (employee_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS attendance (
+    attendance_id   BIGINT      NOT NULL AUTO_INCREMENT,
+    employee_id     BIGINT      NOT NULL,
+    attendance_date DATE        NOT NULL,
+    status          VARCHAR(255),
+    check_in_time   TIME(6),
+    check_out_time  TIME(6),
+    hours_worked    FLOAT(53),
+    created_at      DATETIME(6),
+    PRIMARY KEY (attendance_id),
+    CONSTRAINT fk_attendance_employee FOREIGN KEY (employee_id) REFERENCES employees (employee_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS payroll (
+    payroll_id   BIGINT      NOT NULL AUTO_INCREMENT,
+    employee_id  BIGINT      NOT NULL,
+    month        VARCHAR(255),
+    year         INTEGER,
+    basic_salary FLOAT(53),
+    allowances   FLOAT(53),
+    deductions   FLOAT(53),
+    net_salary   FLOAT(53),
+    payment_date DATE,
+    status       VARCHAR(255),
+    created_at   DATETIME(6),
+    PRIMARY KEY (payroll_id),
+    CONSTRAINT fk_payroll_employee FOREIGN KEY (employee_id) REFERENCES employees (employee_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS users (
+    user_id    BIGINT       NOT NULL AUTO_INCREMENT,
+    username   VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    role       VARCHAR(255),
+    created_at DATETIME(6),
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_users_username UNIQUE (username)
+) ENGINE = InnoDB;
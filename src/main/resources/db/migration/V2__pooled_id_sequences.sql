@@ -0,0 +1,30 @@
+-- Move id generation from IDENTITY to pooled sequences so Hibernate can batch inserts.
+-- MySQL has no native sequences, so Hibernate emulates each one with a single-row table.
+-- Each table is seeded above the current maximum id plus one allocation block (50),
+-- which keeps the first pooled block clear of existing rows.
+-- AUTO_INCREMENT is left on the id columns: Hibernate always supplies the id now, and
+-- MySQL refuses to modify a primary key column that foreign keys reference.
+
+CREATE TABLE IF NOT EXISTS employees_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO employees_seq (next_val)
+SELECT s.next_val
+FROM (SELECT COALESCE(MAX(employee_id), 0) + 51 AS next_val FROM employees) s
+WHERE NOT EXISTS (SELECT 1 FROM employees_seq);
+
+CREATE TABLE IF NOT EXISTS attendance_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO attendance_seq (next_val)
+SELECT s.next_val
+FROM (SELECT COALESCE(MAX(attendance_id), 0) + 51 AS next_val FROM attendance) s
+WHERE NOT EXISTS (SELECT 1 FROM attendance_seq);
+
+CREATE TABLE IF NOT EXISTS payroll_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO payroll_seq (next_val)
+SELECT s.next_val
+FROM (SELECT COALESCE(MAX(payroll_id), 0) + 51 AS next_val FROM payroll) s
+WHERE NOT EXISTS (SELECT 1 FROM payroll_seq);
+
+CREATE TABLE IF NOT EXISTS users_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO users_seq (next_val)
+SELECT s.next_val
+FROM (SELECT COALESCE(MAX(user_id), 0) + 51 AS next_val FROM users) s
+WHERE NOT EXISTS (SELECT 1 FROM users_seq);
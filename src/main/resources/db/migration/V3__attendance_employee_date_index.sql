@@ -0,0 +1,4 @@
+-- Serves per-employee date-range and keyset (date, id) attendance queries.
+-- InnoDB appends the primary key to secondary indexes, so attendance_id tie-breaks come for free.
+
+CREATE INDEX idx_attendance_employee_date ON attendance (employee_id, attendance_date);
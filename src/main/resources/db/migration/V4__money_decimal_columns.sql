@@ -0,0 +1,12 @@
+-- Money amounts move from binary floating point to exact decimals (two minor-unit digits).
+
+ALTER TABLE employees
+    MODIFY salary DECIMAL(19, 2),
+    MODIFY hourly_rate DECIMAL(19, 2),
+    MODIFY contract_amount DECIMAL(19, 2);
+
+ALTER TABLE payroll
+    MODIFY basic_salary DECIMAL(19, 2),
+    MODIFY allowances DECIMAL(19, 2),
+    MODIFY deductions DECIMAL(19, 2),
+    MODIFY net_salary DECIMAL(19, 2);
@@ -0,0 +1,24 @@
+-- Per-employee, per-month attendance totals kept up to date by AttendanceSummaryService.
+-- period is the year and month packed as yyyymm, e.g. 202401.
+-- The nightly reconciliation job rebuilds recent months from the raw attendance log.
+
+CREATE TABLE IF NOT EXISTS attendance_monthly_summary (
+    employee_id BIGINT NOT NULL,
+    period INT NOT NULL,
+    present_days INT NOT NULL DEFAULT 0,
+    absent_days INT NOT NULL DEFAULT 0,
+    total_hours DOUBLE NOT NULL DEFAULT 0,
+    updated_at DATETIME(6),
+    PRIMARY KEY (employee_id, period),
+    INDEX idx_attendance_summary_period (period)
+) ENGINE = InnoDB;
+
+INSERT INTO attendance_monthly_summary (employee_id, period, present_days, absent_days, total_hours, updated_at)
+SELECT a.employee_id,
+       EXTRACT(YEAR_MONTH FROM a.attendance_date),
+       SUM(CASE WHEN UPPER(TRIM(a.status)) = 'PRESENT' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN UPPER(TRIM(a.status)) = 'ABSENT' THEN 1 ELSE 0 END),
+       COALESCE(SUM(a.hours_worked), 0),
+       CURRENT_TIMESTAMP(6)
+FROM attendance a
+GROUP BY a.employee_id, EXTRACT(YEAR_MONTH FROM a.attendance_date);
@@ -0,0 +1,57 @@
+-- Range-partition the two ever-growing tables so date and period filters prune partitions
+-- and cold data can be archived by dropping whole partitions.
+-- attendance is split by month of attendance_date, payroll by year.
+-- MySQL does not allow foreign keys on partitioned tables, and every unique key must
+-- contain the partitioning column, so the FKs are dropped and the primary keys widened.
+-- Only p_history (everything before the oldest existing month) and p_future are created here;
+-- PartitionMaintenanceService splits p_future into monthly/yearly partitions ahead of time.
+
+CREATE TABLE IF NOT EXISTS attendance_archive LIKE attendance;
+ALTER TABLE attendance_archive ROW_FORMAT = COMPRESSED;
+
+CREATE TABLE IF NOT EXISTS payroll_archive LIKE payroll;
+ALTER TABLE payroll_archive ROW_FORMAT = COMPRESSED;
+
+-- Databases baselined from a Hibernate-generated schema carry generated FK names.
+SET @fk = (SELECT CONSTRAINT_NAME FROM information_schema.REFERENTIAL_CONSTRAINTS
+           WHERE CONSTRAINT_SCHEMA = DATABASE() AND TABLE_NAME = 'attendance' LIMIT 1);
+SET @ddl = IF(@fk IS NULL, 'DO 0', CONCAT('ALTER TABLE attendance DROP FOREIGN KEY `', @fk, '`'));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @fk = (SELECT CONSTRAINT_NAME FROM information_schema.REFERENTIAL_CONSTRAINTS
+           WHERE CONSTRAINT_SCHEMA = DATABASE() AND TABLE_NAME = 'payroll' LIMIT 1);
+SET @ddl = IF(@fk IS NULL, 'DO 0', CONCAT('ALTER TABLE payroll DROP FOREIGN KEY `', @fk, '`'));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+ALTER TABLE attendance
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (attendance_id, attendance_date);
+
+UPDATE payroll
+SET year = COALESCE(YEAR(payment_date), YEAR(created_at), 0)
+WHERE year IS NULL;
+
+ALTER TABLE payroll
+    MODIFY year INTEGER NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (payroll_id, year);
+
+SET @bound = (SELECT DATE_FORMAT(COALESCE(MIN(attendance_date), CURRENT_DATE), '%Y-%m-01') FROM attendance);
+SET @ddl = CONCAT('ALTER TABLE attendance PARTITION BY RANGE COLUMNS (attendance_date) (',
+                  'PARTITION p_history VALUES LESS THAN (''', @bound, '''), ',
+                  'PARTITION p_future VALUES LESS THAN (MAXVALUE))');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @bound = (SELECT COALESCE(MIN(year), YEAR(CURRENT_DATE)) FROM payroll);
+SET @ddl = CONCAT('ALTER TABLE payroll PARTITION BY RANGE (year) (',
+                  'PARTITION p_history VALUES LESS THAN (', @bound, '), ',
+                  'PARTITION p_future VALUES LESS THAN (MAXVALUE))');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,60 @@
+-- Replace free-text month matching with a normalized pay-period key (yyyymm, e.g. 202401).
+-- Months typed as "Jan", "January", "1" or "01" are all understood; anything else falls back
+-- to the payment or creation date. Only the newest payroll per employee and period is kept;
+-- older duplicates move to payroll_archive. payroll is re-partitioned by month on period.
+
+ALTER TABLE payroll ADD COLUMN period INTEGER;
+ALTER TABLE payroll_archive ADD COLUMN period INTEGER;
+
+UPDATE payroll
+SET period = year * 100 + CASE
+        WHEN TRIM(month) REGEXP '^[0-9]{1,2}$' AND CAST(TRIM(month) AS UNSIGNED) BETWEEN 1 AND 12
+            THEN CAST(TRIM(month) AS UNSIGNED)
+        ELSE GREATEST(
+            FIELD(UPPER(TRIM(month)), 'JAN', 'FEB', 'MAR', 'APR', 'MAY', 'JUN',
+                  'JUL', 'AUG', 'SEP', 'OCT', 'NOV', 'DEC'),
+            FIELD(UPPER(TRIM(month)), 'JANUARY', 'FEBRUARY', 'MARCH', 'APRIL', 'MAY', 'JUNE',
+                  'JULY', 'AUGUST', 'SEPTEMBER', 'OCTOBER', 'NOVEMBER', 'DECEMBER'))
+    END;
+
+UPDATE payroll
+SET period = COALESCE(EXTRACT(YEAR_MONTH FROM payment_date), EXTRACT(YEAR_MONTH FROM created_at), year * 100 + 1)
+WHERE MOD(period, 100) = 0 OR period IS NULL;
+
+UPDATE payroll
+SET month = ELT(MOD(period, 100), 'January', 'February', 'March', 'April', 'May', 'June',
+                'July', 'August', 'September', 'October', 'November', 'December'),
+    year = period DIV 100;
+
+CREATE TEMPORARY TABLE payroll_duplicates AS
+SELECT p.payroll_id
+FROM payroll p
+JOIN (SELECT employee_id, period, MAX(payroll_id) AS keep_id
+      FROM payroll
+      GROUP BY employee_id, period
+      HAVING COUNT(*) > 1) d ON d.employee_id = p.employee_id AND d.period = p.period
+WHERE p.payroll_id <> d.keep_id;
+
+INSERT IGNORE INTO payroll_archive
+SELECT p.* FROM payroll p JOIN payroll_duplicates d ON d.payroll_id = p.payroll_id;
+
+DELETE p FROM payroll p JOIN payroll_duplicates d ON d.payroll_id = p.payroll_id;
+
+DROP TEMPORARY TABLE payroll_duplicates;
+
+ALTER TABLE payroll REMOVE PARTITIONING;
+
+ALTER TABLE payroll
+    MODIFY period INTEGER NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (payroll_id, period),
+    ADD CONSTRAINT uk_payroll_employee_period UNIQUE (employee_id, period),
+    ADD INDEX idx_payroll_period (period);
+
+SET @bound = (SELECT COALESCE(MIN(period), EXTRACT(YEAR_MONTH FROM CURRENT_DATE)) FROM payroll);
+SET @ddl = CONCAT('ALTER TABLE payroll PARTITION BY RANGE (period) (',
+                  'PARTITION p_history VALUES LESS THAN (', @bound, '), ',
+                  'PARTITION p_future VALUES LESS THAN (MAXVALUE))');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
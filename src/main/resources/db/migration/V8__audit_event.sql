@@ -0,0 +1,18 @@
+-- Append-only change log written in batches by AuditLogService.
+-- changes holds a JSON object of {"field": {"from": ..., "to": ...}}.
+
+CREATE TABLE IF NOT EXISTS audit_event (
+    audit_id    BIGINT      NOT NULL,
+    entity_type VARCHAR(32) NOT NULL,
+    entity_id   BIGINT,
+    action      VARCHAR(32) NOT NULL,
+    changes     TEXT,
+    occurred_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (audit_id),
+    INDEX idx_audit_event_entity (entity_type, entity_id, audit_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS audit_event_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO audit_event_seq (next_val)
+SELECT 1 FROM DUAL
+WHERE NOT EXISTS (SELECT 1 FROM audit_event_seq);
@@ -0,0 +1,5 @@
+-- Identifier from the source system, used as the upsert key by bulk employee imports.
+
+ALTER TABLE employees
+    ADD COLUMN external_ref VARCHAR(64),
+    ADD CONSTRAINT uk_employees_external_ref UNIQUE (external_ref);
@@ -0,0 +1,54 @@
+package com.employee.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeTest {
+
+    @Test
+    void fullTimeBasePayIsSalaryBeforeRules() {
+        FullTimeEmployee employee = new FullTimeEmployee();
+        employee.setSalary(Money.ofMajor(1000));
+
+        assertThat(employee.calculateBasePay()).isEqualTo(Money.ofMajor(1000));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void deprecatedCalculateSalaryKeepsFullTimeUplift() {
+        FullTimeEmployee fullTime = new FullTimeEmployee();
+        fullTime.setSalary(Money.ofMajor(1000));
+        ContractEmployee contract = new ContractEmployee();
+        contract.setContractAmount(Money.ofMajor(12_000));
+        contract.setContractDuration(12);
+
+        assertThat(fullTime.calculateSalary()).isEqualTo(Money.ofMajor(1150));
+        assertThat(contract.calculateSalary()).isEqualTo(contract.calculateBasePay());
+    }
+
+    @Test
+    void partTimeBasePayIsRateTimesHours() {
+        PartTimeEmployee employee = new PartTimeEmployee();
+        employee.setHourlyRate(Money.ofMajor(20));
+        employee.setHoursWorked(80);
+
+        assertThat(employee.calculateBasePay()).isEqualTo(Money.ofMajor(1600));
+        assertThat(employee.calculateBasePay(new BigDecimal("12.25"))).isEqualTo(Money.ofMinor(24_500));
+        assertThat(employee.calculateBasePay(BigDecimal.ZERO)).isEqualTo(Money.zero());
+    }
+
+    @Test
+    void contractBasePaySpreadsAmountOverDuration() {
+        ContractEmployee employee = new ContractEmployee();
+        employee.setContractAmount(Money.ofMajor(12_000));
+        employee.setContractDuration(12);
+
+        assertThat(employee.calculateBasePay()).isEqualTo(Money.ofMajor(1000));
+
+        employee.setContractDuration(null);
+        assertThat(employee.calculateBasePay()).isEqualTo(Money.ofMajor(12_000));
+    }
+}
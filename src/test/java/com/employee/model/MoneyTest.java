@@ -0,0 +1,80 @@
+package com.employee.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    @Test
+    void roundsToMinorUnitsHalfEven() {
+        assertThat(Money.of(new BigDecimal("10.005")).getMinorUnits()).isEqualTo(1000);
+        assertThat(Money.of(new BigDecimal("10.015")).getMinorUnits()).isEqualTo(1002);
+        assertThat(Money.of(new BigDecimal("-10.015")).getMinorUnits()).isEqualTo(-1002);
+        assertThat(Money.ofMajor(12).getMinorUnits()).isEqualTo(1200);
+    }
+
+    @Test
+    void addsAndSubtractsExactly() {
+        Money total = Money.zero();
+        for (int i = 0; i < 10; i++) {
+            total = total.plus(Money.of(new BigDecimal("0.10")));
+        }
+
+        assertThat(total).isEqualTo(Money.ofMajor(1));
+        assertThat(total.minus(Money.ofMinor(150))).isEqualTo(Money.ofMinor(-50));
+        assertThat(total.minus(Money.ofMinor(150)).isNegative()).isTrue();
+    }
+
+    @Test
+    void multipliesAndDividesWithBankersRounding() {
+        assertThat(Money.ofMinor(1000).multiply(3)).isEqualTo(Money.ofMinor(3000));
+        assertThat(Money.ofMinor(1005).multiply(1, 2)).isEqualTo(Money.ofMinor(502));
+        assertThat(Money.ofMinor(1015).multiply(1, 2)).isEqualTo(Money.ofMinor(508));
+        assertThat(Money.ofMinor(1000).divide(3)).isEqualTo(Money.ofMinor(333));
+        assertThat(Money.ofMinor(-1005).divide(2)).isEqualTo(Money.ofMinor(-502));
+        assertThat(Money.ofMinor(100_000).multiply(1_500, 10_000)).isEqualTo(Money.ofMinor(15_000));
+    }
+
+    @Test
+    void exposesMinorUnitArithmeticForBulkPaths() {
+        assertThat(Money.toMinorUnits(new BigDecimal("19.995"))).isEqualTo(2000);
+        assertThat(Money.multiplyRounded(1005, 1, 2)).isEqualTo(Money.ofMinor(1005).multiply(1, 2).getMinorUnits());
+        assertThat(Money.divideRounded(1015, 2)).isEqualTo(508);
+    }
+
+    @Test
+    void rejectsDivisionByZeroAndOverflow() {
+        assertThatThrownBy(() -> Money.ofMinor(1).divide(0)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofMinor(Long.MAX_VALUE).plus(Money.ofMinor(1)))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void rejectsMixedCurrencies() {
+        Money euros = Money.ofMinor(100, Currency.getInstance("EUR"));
+
+        assertThatThrownBy(() -> Money.ofMinor(100).plus(euros)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Money.ofMinor(100).compareTo(euros)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void convertsToBigDecimalAtCurrencyScale() {
+        assertThat(Money.ofMinor(123_456).toBigDecimal()).isEqualTo(new BigDecimal("1234.56"));
+        assertThat(Money.ofMajor(5).toString()).isEqualTo("5.00");
+        assertThat(Money.ofMinor(250).toDouble()).isEqualTo(2.5);
+    }
+
+    @Test
+    void serializesAsJsonNumber() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        assertThat(objectMapper.writeValueAsString(Money.ofMinor(123_450))).isEqualTo("1234.50");
+        assertThat(objectMapper.readValue("1234.5", Money.class)).isEqualTo(Money.ofMinor(123_450));
+    }
+}
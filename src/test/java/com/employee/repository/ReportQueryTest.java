@@ -0,0 +1,130 @@
+package com.employee.repository;
+
+import com.employee.dto.AttendanceReportRow;
+import com.employee.dto.PayrollReportRow;
+import com.employee.model.Attendance;
+import com.employee.model.ContractEmployee;
+import com.employee.model.Employee;
+import com.employee.model.FullTimeEmployee;
+import com.employee.model.Money;
+import com.employee.model.PartTimeEmployee;
+import com.employee.model.Payroll;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ReportQueryTest {
+
+    private static final int ROWS = 1_000;
+    private static final int PERIOD = 202401;
+    private static final LocalDate DATE = LocalDate.of(2024, 1, 15);
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private PayrollRepository payrollRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seed() {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            employees.add(employee(i));
+        }
+        employeeRepository.saveAll(employees);
+
+        List<Payroll> payrolls = new ArrayList<>();
+        List<Attendance> attendance = new ArrayList<>();
+        for (Employee employee : employees) {
+            Payroll payroll = new Payroll();
+            payroll.setEmployee(employee);
+            payroll.setMonth("January");
+            payroll.setYear(2024);
+            payroll.setPeriod(PERIOD);
+            payroll.setBasicSalary(employee.getSalary());
+            payroll.setAllowances(Money.zero());
+            payroll.setDeductions(Money.zero());
+            payroll.setNetSalary(employee.getSalary());
+            payroll.setPaymentDate(DATE);
+            payroll.setStatus("PROCESSED");
+            payrolls.add(payroll);
+
+            Attendance day = new Attendance();
+            day.setEmployee(employee);
+            day.setAttendanceDate(DATE);
+            day.setStatus("PRESENT");
+            day.setHoursWorked(8.0);
+            attendance.add(day);
+        }
+        payrollRepository.saveAll(payrolls);
+        attendanceRepository.saveAll(attendance);
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void payrollReportRunsOneStatement() {
+        List<PayrollReportRow> rows = payrollRepository.findReportRowsByPeriodBetween(PERIOD, PERIOD);
+
+        assertThat(rows).hasSize(ROWS);
+        assertThat(rows).allSatisfy(row -> assertThat(row.getEmployeeName()).startsWith("Employee "));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void attendanceReportRunsOneStatement() {
+        List<AttendanceReportRow> rows = attendanceRepository.findReportRowsByAttendanceDate(DATE);
+
+        assertThat(rows).hasSize(ROWS);
+        assertThat(rows).allSatisfy(row -> assertThat(row.getDepartment()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @SpringBootConfiguration
+    @EntityScan(basePackageClasses = Employee.class)
+    @EnableJpaRepositories(basePackageClasses = EmployeeRepository.class)
+    static class JpaConfig {
+    }
+
+    private static Employee employee(int i) {
+        Employee employee = switch (i % 3) {
+            case 0 -> new FullTimeEmployee();
+            case 1 -> new PartTimeEmployee();
+            default -> new ContractEmployee();
+        };
+        employee.setName("Employee " + i);
+        employee.setDepartment(i % 2 == 0 ? "Engineering" : "Finance");
+        employee.setSalary(Money.ofMajor(40_000 + i));
+        employee.setRoleType("STAFF");
+        return employee;
+    }
+}
@@ -0,0 +1,124 @@
+package com.employee.rules;
+
+import com.employee.model.ContractEmployee;
+import com.employee.model.Employee;
+import com.employee.model.FullTimeEmployee;
+import com.employee.model.Money;
+import com.employee.model.PartTimeEmployee;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PayrollRulesEngineTest {
+
+    private static final String RULES = """
+            {
+              "version": "test",
+              "rules": [
+                { "allowances": 2000.00, "deductions": 500.00,
+                  "taxBrackets": [ { "upTo": 3000.00, "ratePercent": 0 }, { "ratePercent": 20 } ] },
+                { "employeeType": "FULL_TIME", "upliftPercent": 15 },
+                { "department": "Sales", "allowances": 3000.00 },
+                { "employeeType": "FULL_TIME", "department": "Sales", "upliftPercent": 10 },
+                { "employeeType": "PART_TIME", "department": "Operations",
+                  "overtimeThresholdHours": 120, "overtimePremiumPercent": 50 }
+              ]
+            }
+            """;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void appliesGlobalRulesAndTaxBrackets() throws IOException {
+        PayrollRulesEngine engine = engine(RULES);
+
+        PayrollCalculation calculation = engine.evaluate(employee(new ContractEmployee(), "Finance"),
+                Money.ofMajor(4000), null);
+
+        assertThat(calculation.getBasicSalary()).isEqualTo(Money.ofMajor(4000));
+        assertThat(calculation.getAllowances()).isEqualTo(Money.ofMajor(2000));
+        assertThat(calculation.getDeductions()).isEqualTo(Money.ofMajor(500 + 600));
+        assertThat(calculation.getNetSalary()).isEqualTo(Money.ofMajor(4000 + 2000 - 1100));
+    }
+
+    @Test
+    void mostSpecificRuleWinsPerField() throws IOException {
+        PayrollRulesEngine engine = engine(RULES);
+
+        PayrollCalculation typeOnly = engine.evaluate(employee(new FullTimeEmployee(), "Finance"),
+                Money.ofMajor(1000), null);
+        PayrollCalculation typeAndDepartment = engine.evaluate(employee(new FullTimeEmployee(), "Sales"),
+                Money.ofMajor(1000), null);
+        PayrollCalculation departmentOnly = engine.evaluate(employee(new ContractEmployee(), "Sales"),
+                Money.ofMajor(1000), null);
+
+        assertThat(typeOnly.getBasicSalary()).isEqualTo(Money.ofMajor(1150));
+        assertThat(typeOnly.getAllowances()).isEqualTo(Money.ofMajor(2000));
+        assertThat(typeAndDepartment.getBasicSalary()).isEqualTo(Money.ofMajor(1100));
+        assertThat(typeAndDepartment.getAllowances()).isEqualTo(Money.ofMajor(3000));
+        assertThat(departmentOnly.getBasicSalary()).isEqualTo(Money.ofMajor(1000));
+        assertThat(departmentOnly.getAllowances()).isEqualTo(Money.ofMajor(3000));
+    }
+
+    @Test
+    void paysOvertimePremiumAboveThreshold() throws IOException {
+        PayrollRulesEngine engine = engine(RULES);
+        PartTimeEmployee partTime = employee(new PartTimeEmployee(), "Operations");
+        partTime.setHourlyRate(Money.ofMajor(20));
+
+        PayrollCalculation overtime = engine.evaluate(partTime, Money.ofMajor(2600), new BigDecimal("130"));
+        PayrollCalculation regular = engine.evaluate(partTime, Money.ofMajor(2000), new BigDecimal("100"));
+
+        assertThat(overtime.getBasicSalary()).isEqualTo(Money.ofMajor(2600 + 100));
+        assertThat(regular.getBasicSalary()).isEqualTo(Money.ofMajor(2000));
+    }
+
+    @Test
+    void rejectsDuplicateRules() throws IOException {
+        String duplicate = """
+                { "version": "dup", "rules": [ { "employeeType": "FULL_TIME" }, { "employeeType": "FULL_TIME" } ] }
+                """;
+
+        assertThatThrownBy(() -> engine(duplicate)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Duplicate");
+    }
+
+    @Test
+    void keepsPreviousPlanWhenReloadFails() throws IOException {
+        PayrollRulesEngine engine = engine(RULES);
+        Path rules = directory.resolve("rules.json");
+        Files.writeString(rules, "{ \"version\": \"broken\", \"rules\": [ { \"upliftPercent\": -5 } ] }");
+        Files.setLastModifiedTime(rules, FileTime.fromMillis(Files.getLastModifiedTime(rules).toMillis() + 60_000));
+
+        engine.reloadIfChanged();
+
+        assertThat(engine.getPlan().getVersion()).isEqualTo("test");
+    }
+
+    private PayrollRulesEngine engine(String json) throws IOException {
+        Path rules = directory.resolve("rules.json");
+        Files.writeString(rules, json);
+        PayrollRulesEngine engine = new PayrollRulesEngine(new DefaultResourceLoader(), new ObjectMapper());
+        ReflectionTestUtils.setField(engine, "location", rules.toUri().toString());
+        engine.reload();
+        return engine;
+    }
+
+    private static <T extends Employee> T employee(T employee, String department) {
+        employee.setName("Test");
+        employee.setDepartment(department);
+        return employee;
+    }
+}
@@ -0,0 +1,61 @@
+package com.employee.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvRecordReaderTest {
+
+    @Test
+    void splitsPlainAndQuotedFields() throws IOException {
+        CsvRecordReader reader = reader("a,\"b,c\",,\"say \"\"hi\"\"\"\n");
+
+        assertThat(reader.next()).containsExactly("a", "b,c", "", "say \"hi\"");
+        assertThat(reader.getRecordError()).isNull();
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void keepsQuotesInsideUnquotedFields() throws IOException {
+        CsvRecordReader reader = reader("Ann 5\" tall,x\"y\"z\n");
+
+        assertThat(reader.next()).containsExactly("Ann 5\" tall", "x\"y\"z");
+    }
+
+    @Test
+    void opensQuoteAfterLeadingSpaces() throws IOException {
+        CsvRecordReader reader = reader("a,  \"b, c\"\n");
+
+        assertThat(reader.next()).containsExactly("a", "b, c");
+    }
+
+    @Test
+    void readsMultiLineFieldsAndTracksRecordLine() throws IOException {
+        CsvRecordReader reader = reader("h1,h2\n1,\"two\nlines\"\n3,4\n");
+
+        assertThat(reader.next()).containsExactly("h1", "h2");
+        assertThat(reader.next()).containsExactly("1", "two\nlines");
+        assertThat(reader.getRecordLine()).isEqualTo(2);
+        assertThat(reader.next()).containsExactly("3", "4");
+        assertThat(reader.getRecordLine()).isEqualTo(4);
+    }
+
+    @Test
+    void reportsUnterminatedQuoteAsRecordError() throws IOException {
+        CsvRecordReader reader = reader("1,ok\n2,\"open\n3,rest\n");
+
+        assertThat(reader.next()).containsExactly("1", "ok");
+        assertThat(reader.next()).isNotNull();
+        assertThat(reader.getRecordLine()).isEqualTo(2);
+        assertThat(reader.getRecordError()).contains("line 2");
+        assertThat(reader.next()).isNull();
+    }
+
+    private static CsvRecordReader reader(String text) {
+        return new CsvRecordReader(new BufferedReader(new StringReader(text)));
+    }
+}
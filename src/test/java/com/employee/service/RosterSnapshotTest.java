@@ -0,0 +1,68 @@
+package com.employee.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RosterSnapshotTest {
+
+    private static final long ANY_MIN = Long.MIN_VALUE;
+    private static final long ANY_MAX = Long.MAX_VALUE;
+
+    private RosterSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new RosterSnapshot(2);
+        snapshot.upsert(1, "Engineering", "FULL_TIME", 500_000);
+        snapshot.upsert(2, "Engineering", "CONTRACT", 700_000);
+        snapshot.upsert(3, "Finance", "CONTRACT", 300_000);
+        snapshot.upsert(4, null, "PART_TIME", 100_000);
+    }
+
+    @Test
+    void filtersByDepartmentTypeAndSalary() {
+        assertThat(snapshot.count(null, null, ANY_MIN, ANY_MAX)).isEqualTo(4);
+        assertThat(snapshot.count("Engineering", null, ANY_MIN, ANY_MAX)).isEqualTo(2);
+        assertThat(snapshot.count(null, "CONTRACT", 400_000, ANY_MAX)).isEqualTo(1);
+        assertThat(snapshot.count("Sales", null, ANY_MIN, ANY_MAX)).isZero();
+        assertThat(snapshot.ids(null, "CONTRACT", ANY_MIN, ANY_MAX, 10)).containsExactly(2L, 3L);
+        assertThat(snapshot.ids(null, null, ANY_MIN, ANY_MAX, 2)).hasSize(2);
+    }
+
+    @Test
+    void aggregatesSalaries() {
+        RosterSnapshot.Aggregate all = snapshot.aggregate(null, null, ANY_MIN, ANY_MAX);
+        RosterSnapshot.Aggregate none = snapshot.aggregate("Sales", null, ANY_MIN, ANY_MAX);
+
+        assertThat(all).isEqualTo(new RosterSnapshot.Aggregate(4, 1_600_000, 100_000, 700_000));
+        assertThat(none).isEqualTo(new RosterSnapshot.Aggregate(0, 0, 0, 0));
+    }
+
+    @Test
+    void upsertReplacesPreviousRow() {
+        snapshot.upsert(2, "Finance", "CONTRACT", 900_000);
+
+        assertThat(snapshot.liveRows()).isEqualTo(4);
+        assertThat(snapshot.tombstones()).isEqualTo(1);
+        assertThat(snapshot.count("Engineering", null, ANY_MIN, ANY_MAX)).isEqualTo(1);
+        assertThat(snapshot.ids("Finance", "CONTRACT", ANY_MIN, ANY_MAX, 10)).containsExactly(3L, 2L);
+        assertThat(snapshot.aggregate("Finance", null, ANY_MIN, ANY_MAX).max()).isEqualTo(900_000);
+    }
+
+    @Test
+    void removeAndCompactKeepLiveRows() {
+        assertThat(snapshot.remove(1)).isTrue();
+        assertThat(snapshot.remove(1)).isFalse();
+        assertThat(snapshot.tombstones()).isEqualTo(1);
+
+        RosterSnapshot compacted = snapshot.compact();
+
+        assertThat(compacted.liveRows()).isEqualTo(3);
+        assertThat(compacted.tombstones()).isZero();
+        assertThat(compacted.count("Engineering", null, ANY_MIN, ANY_MAX)).isEqualTo(1);
+        assertThat(compacted.aggregate(null, null, ANY_MIN, ANY_MAX))
+                .isEqualTo(snapshot.aggregate(null, null, ANY_MIN, ANY_MAX));
+    }
+}